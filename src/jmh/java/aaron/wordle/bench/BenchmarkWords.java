@@ -0,0 +1,60 @@
+package aaron.wordle.bench;
+
+import aaron.wordle.game.PositionResponse;
+import aaron.wordle.solver.FeedbackPatterns;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+final class BenchmarkWords {
+
+    private static final long SEED = 0x5eed;
+
+    private BenchmarkWords() {
+        throw new IllegalStateException();
+    }
+
+    static List<String> dictionary() {
+        Set<String> words = new LinkedHashSet<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(BenchmarkWords.class.getResourceAsStream("/dictionary.txt"), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                words.add(line.trim().toLowerCase());
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading file.", e);
+        }
+        return new ArrayList<>(words);
+    }
+
+    static List<String> words(int dictionarySize, int wordLength) {
+        Set<String> words = new LinkedHashSet<>();
+        if (wordLength == 5) {
+            List<String> dictionary = dictionary();
+            words.addAll(dictionary.subList(0, Math.min(dictionarySize, dictionary.size())));
+        }
+        Random random = new Random(SEED);
+        while (words.size() < dictionarySize) {
+            char[] word = new char[wordLength];
+            for (int position = 0; position < wordLength; position++) word[position] = (char) ('a' + random.nextInt(26));
+            words.add(new String(word));
+        }
+        return new ArrayList<>(words);
+    }
+
+    static String answer(List<String> words) {
+        return words.get(words.size() / 2);
+    }
+
+    static List<String> guesses(List<String> words, int numGuesses) {
+        return words.subList(0, Math.min(numGuesses, words.size()));
+    }
+
+    static List<PositionResponse> response(String guess, String answer) {
+        return FeedbackPatterns.toPositionResponses(FeedbackPatterns.compute(guess, answer), answer.length());
+    }
+
+}
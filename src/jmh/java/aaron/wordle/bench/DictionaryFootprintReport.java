@@ -0,0 +1,96 @@
+package aaron.wordle.bench;
+
+import aaron.wordle.game.WordleRunner;
+import aaron.wordle.solver.DictionaryIndex;
+import aaron.wordle.solver.FeedbackPatterns;
+import aaron.wordle.solver.PackedWords;
+import aaron.wordle.solver.WordConstraints;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+public class DictionaryFootprintReport {
+
+    private static final int NUM_FILTERS = 1000;
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: DictionaryFootprintReport <pathToDictionary> [numGuesses]");
+            System.exit(1);
+        }
+        String pathToDictionary = args[0];
+        List<String> dictionary = WordleRunner.readDictionary(pathToDictionary);
+        int numGuesses = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+        int wordLength = dictionary.get(0).length();
+        String answer = dictionary.get(dictionary.size() / 2);
+        WordConstraints wordConstraints = new WordConstraints(wordLength);
+        for (String guess : dictionary.subList(0, Math.min(numGuesses, dictionary.size()))) {
+            wordConstraints = wordConstraints.updateFromGuess(guess, FeedbackPatterns.toPositionResponses(FeedbackPatterns.compute(guess, answer), wordLength));
+        }
+        WordConstraints constraints = wordConstraints;
+        // The first MXBean lookups allocate, so prime them before any measurement.
+        usedHeap();
+        usedOffHeap();
+
+        System.out.printf("dictionary=%s words=%d guesses=%d%n", pathToDictionary, dictionary.size(), numGuesses);
+        System.out.printf("%-16s %-12s %-12s %-12s %-12s %-12s%n", "layout", "heapKiB", "offHeapKiB", "bytes/word", "filterMicros", "matches");
+        report("list", dictionary.size(), () -> WordleRunner.readDictionary(pathToDictionary),
+                words -> (int) words.stream().filter(constraints::wordFitsConstraints).count());
+        report("index", dictionary.size(), () -> new DictionaryIndex(WordleRunner.readDictionary(pathToDictionary)),
+                dictionaryIndex -> filter(dictionaryIndex, constraints));
+        report("packed", dictionary.size(), () -> new DictionaryIndex(PackedWords.pack(WordleRunner.readDictionary(pathToDictionary), false)),
+                dictionaryIndex -> filter(dictionaryIndex, constraints));
+        report("packed-offheap", dictionary.size(), () -> new DictionaryIndex(PackedWords.pack(WordleRunner.readDictionary(pathToDictionary), true)),
+                dictionaryIndex -> filter(dictionaryIndex, constraints));
+        report("packed-decoded", dictionary.size(), () -> {
+            DictionaryIndex dictionaryIndex = new DictionaryIndex(PackedWords.pack(WordleRunner.readDictionary(pathToDictionary), false));
+            dictionaryIndex.getEncodedWords(dictionaryIndex.allWordIds());
+            return dictionaryIndex;
+        }, dictionaryIndex -> filter(dictionaryIndex, constraints));
+    }
+
+    private static int filter(DictionaryIndex dictionaryIndex, WordConstraints wordConstraints) {
+        BitSet wordIds = dictionaryIndex.filter(wordConstraints, dictionaryIndex.allWordIds());
+        return wordIds.cardinality();
+    }
+
+    private static <T> void report(String layout, int numWords, Supplier<T> build, ToIntFunction<T> filter) {
+        long heapBefore = usedHeap();
+        long offHeapBefore = usedOffHeap();
+        T structure = build.get();
+        long heap = usedHeap() - heapBefore;
+        long offHeap = usedOffHeap() - offHeapBefore;
+        int matches = 0;
+        for (int warmup = 0; warmup < NUM_FILTERS; warmup++) {
+            matches = filter.applyAsInt(structure);
+        }
+        long startTimeNanos = System.nanoTime();
+        for (int trial = 0; trial < NUM_FILTERS; trial++) {
+            matches = filter.applyAsInt(structure);
+        }
+        double filterMicros = (System.nanoTime() - startTimeNanos) / 1e3 / NUM_FILTERS;
+        System.out.printf("%-16s %-12d %-12d %-12.1f %-12.1f %-12d%n", layout, heap / 1024, offHeap / 1024, (double) (heap + offHeap) / numWords, filterMicros, matches);
+    }
+
+    private static long usedHeap() {
+        for (int collection = 0; collection < 5; collection++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static long usedOffHeap() {
+        long used = 0;
+        for (BufferPoolMXBean bufferPool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            if (bufferPool.getName().equals("direct")) {
+                used += bufferPool.getMemoryUsed();
+            }
+        }
+        return used;
+    }
+
+}
@@ -0,0 +1,37 @@
+package aaron.wordle.bench;
+
+import aaron.wordle.game.WordleRunner;
+import aaron.wordle.solver.WordleSolver;
+
+import java.util.List;
+
+public class ParallelScalingReport {
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: ParallelScalingReport <pathToDictionary> [maxParallelism]");
+            System.exit(1);
+        }
+        List<String> dictionary = WordleRunner.readDictionary(args[0]);
+        int maxParallelism = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+        System.out.printf("dictionary=%s words=%d availableProcessors=%d%n", args[0], dictionary.size(), Runtime.getRuntime().availableProcessors());
+        System.out.printf("%-12s %-12s %-12s %-12s%n", "parallelism", "seconds", "speedup", "guess");
+        double sequentialSeconds = 0;
+        String sequentialGuess = null;
+        for (int parallelism = 1; parallelism <= maxParallelism; parallelism++) {
+            WordleSolver solver = new WordleSolver(dictionary, parallelism);
+            long startTimeNanos = System.nanoTime();
+            String guess = solver.nextGuess();
+            double seconds = (System.nanoTime() - startTimeNanos) / 1e9;
+            if (parallelism == 1) {
+                sequentialSeconds = seconds;
+                sequentialGuess = guess;
+            } else if (!guess.equals(sequentialGuess)) {
+                throw new IllegalStateException("parallelism = " + parallelism + " guessed " + guess + " but sequential search guessed " + sequentialGuess + "!");
+            }
+            System.out.printf("%-12d %-12.3f %-12.2f %-12s%n", parallelism, seconds, sequentialSeconds / seconds, guess);
+        }
+    }
+
+}
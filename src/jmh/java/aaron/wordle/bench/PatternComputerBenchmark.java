@@ -0,0 +1,44 @@
+package aaron.wordle.bench;
+
+import aaron.wordle.solver.FeedbackPatterns;
+import aaron.wordle.solver.PatternComputer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class PatternComputerBenchmark {
+
+    @Param({PatternComputer.SCALAR, PatternComputer.VECTOR})
+    String backend;
+
+    byte[][] answers;
+    int[] patterns;
+    int guessIndex;
+    PatternComputer patternComputer;
+
+    @Setup
+    public void setUp() {
+        List<String> dictionary = BenchmarkWords.dictionary();
+        answers = new byte[dictionary.size()][];
+        for (int wordIndex = 0; wordIndex < answers.length; wordIndex++) {
+            answers[wordIndex] = FeedbackPatterns.encode(dictionary.get(wordIndex));
+        }
+        patterns = new int[answers.length];
+        patternComputer = backend.equals(PatternComputer.VECTOR) ? PatternComputer.vector(answers, answers.length) : PatternComputer.scalar(answers, answers.length);
+    }
+
+    @Benchmark
+    public int[] computeAll() {
+        guessIndex = guessIndex + 1 == answers.length ? 0 : guessIndex + 1;
+        patternComputer.compute(answers[guessIndex], patterns);
+        return patterns;
+    }
+
+}
@@ -0,0 +1,94 @@
+package aaron.wordle.bench;
+
+import aaron.wordle.game.PositionResponse;
+import aaron.wordle.solver.DictionaryIndex;
+import aaron.wordle.solver.FeedbackPatterns;
+import aaron.wordle.solver.WordConstraints;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WordConstraintsBenchmark {
+
+    @Param({"1000", "12947"})
+    int dictionarySize;
+
+    @Param({"5", "7"})
+    int wordLength;
+
+    @Param({"0", "1", "3"})
+    int numConstraints;
+
+    List<String> words;
+    byte[][] encodedWords;
+    DictionaryIndex dictionaryIndex;
+    BitSet allWordIds;
+    WordConstraints wordConstraints;
+    String guess;
+    byte[] encodedGuess;
+    List<PositionResponse> response;
+    int pattern;
+
+    @Setup
+    public void setUp() {
+        words = BenchmarkWords.words(dictionarySize, wordLength);
+        encodedWords = new byte[words.size()][];
+        for (int wordIndex = 0; wordIndex < encodedWords.length; wordIndex++) {
+            encodedWords[wordIndex] = FeedbackPatterns.encode(words.get(wordIndex));
+        }
+        dictionaryIndex = new DictionaryIndex(words);
+        allWordIds = dictionaryIndex.allWordIds();
+
+        String answer = BenchmarkWords.answer(words);
+        wordConstraints = new WordConstraints(wordLength);
+        for (String appliedGuess : BenchmarkWords.guesses(words, numConstraints)) {
+            wordConstraints = wordConstraints.updateFromGuess(appliedGuess, BenchmarkWords.response(appliedGuess, answer));
+        }
+        guess = words.get(words.size() - 1);
+        encodedGuess = FeedbackPatterns.encode(guess);
+        response = BenchmarkWords.response(guess, answer);
+        pattern = FeedbackPatterns.fromPositionResponses(response);
+    }
+
+    @Benchmark
+    public WordConstraints updateFromGuess() {
+        return wordConstraints.updateFromGuess(guess, response);
+    }
+
+    @Benchmark
+    public WordConstraints updateFromGuessEncoded() {
+        return wordConstraints.updateFromGuess(encodedGuess, pattern);
+    }
+
+    @Benchmark
+    public int wordFitsConstraints() {
+        int numFits = 0;
+        for (String word : words) {
+            if (wordConstraints.wordFitsConstraints(word)) numFits++;
+        }
+        return numFits;
+    }
+
+    @Benchmark
+    public int wordFitsConstraintsEncoded() {
+        int numFits = 0;
+        for (byte[] encodedWord : encodedWords) {
+            if (wordConstraints.wordFitsConstraints(encodedWord)) numFits++;
+        }
+        return numFits;
+    }
+
+    @Benchmark
+    public BitSet dictionaryIndexFilter() {
+        return dictionaryIndex.filter(wordConstraints, allWordIds);
+    }
+
+}
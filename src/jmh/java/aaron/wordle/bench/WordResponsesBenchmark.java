@@ -0,0 +1,55 @@
+package aaron.wordle.bench;
+
+import aaron.wordle.solver.FeedbackPatterns;
+import aaron.wordle.solver.WordResponses;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WordResponsesBenchmark {
+
+    @Param({"100", "1000"})
+    int dictionarySize;
+
+    @Param({"5", "7"})
+    int wordLength;
+
+    byte[] guess;
+    byte[][] remainingWords;
+
+    @Setup
+    public void setUp() {
+        List<String> words = BenchmarkWords.words(dictionarySize, wordLength);
+        guess = FeedbackPatterns.encode(words.get(0));
+        remainingWords = new byte[words.size()][];
+        for (int wordIndex = 0; wordIndex < remainingWords.length; wordIndex++) {
+            remainingWords[wordIndex] = FeedbackPatterns.encode(words.get(wordIndex));
+        }
+    }
+
+    @Benchmark
+    public void next(Blackhole blackhole) {
+        WordResponses responses = WordResponses.withLength(wordLength);
+        while (responses.hasNext()) {
+            blackhole.consume(responses.next());
+        }
+    }
+
+    @Benchmark
+    public void reachableFrom(Blackhole blackhole) {
+        PrimitiveIterator.OfInt patterns = WordResponses.reachableFrom(guess, remainingWords);
+        while (patterns.hasNext()) {
+            blackhole.consume(patterns.nextInt());
+        }
+    }
+
+}
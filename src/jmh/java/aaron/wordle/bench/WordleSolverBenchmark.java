@@ -0,0 +1,71 @@
+package aaron.wordle.bench;
+
+import aaron.wordle.game.PositionResponse;
+import aaron.wordle.solver.WordleSolver;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class WordleSolverBenchmark {
+
+    @Param({"250", "1000", "4000"})
+    int dictionarySize;
+
+    @Param({"5", "7"})
+    int wordLength;
+
+    @Param({"0", "1", "3"})
+    int numConstraints;
+
+    List<String> words;
+    String guess;
+    List<PositionResponse> response;
+
+    @Setup
+    public void setUp() {
+        words = BenchmarkWords.words(dictionarySize, wordLength);
+        String answer = BenchmarkWords.answer(words);
+        guess = words.get(words.size() - 1);
+        response = BenchmarkWords.response(guess, answer);
+    }
+
+    WordleSolver solverWithConstraints() {
+        String answer = BenchmarkWords.answer(words);
+        WordleSolver solverWithConstraints = new WordleSolver(words);
+        for (String appliedGuess : BenchmarkWords.guesses(words, numConstraints)) {
+            solverWithConstraints.updateFromGuess(appliedGuess, BenchmarkWords.response(appliedGuess, answer));
+        }
+        return solverWithConstraints;
+    }
+
+    @Benchmark
+    public String nextGuess(FreshSolver freshSolver) {
+        return freshSolver.solver.nextGuess();
+    }
+
+    @State(Scope.Thread)
+    public static class FreshSolver {
+
+        WordleSolver solver;
+
+        @Setup(Level.Invocation)
+        public void setUp(WordleSolverBenchmark benchmark) {
+            solver = benchmark.solverWithConstraints();
+        }
+
+    }
+
+    @Benchmark
+    public List<String> updateFromGuess(FreshSolver freshSolver) {
+        freshSolver.solver.updateFromGuess(guess, response);
+        return freshSolver.solver.getRemainingWords();
+    }
+
+}
@@ -12,6 +12,10 @@ public enum PositionResponse {
         this.color = color;
     }
 
+    public String getColor() {
+        return color;
+    }
+
     public static Optional<PositionResponse> fromColor(String color) {
         return Arrays.stream(PositionResponse.values()).filter(positionResponse -> positionResponse.color.equals(color)).findFirst();
     }
@@ -0,0 +1,268 @@
+package aaron.wordle.game;
+
+import aaron.wordle.solver.DictionaryIndex;
+import aaron.wordle.solver.FeedbackPatterns;
+import aaron.wordle.solver.ScoringStrategy;
+import aaron.wordle.solver.WordConstraints;
+import aaron.wordle.solver.WordleSolver;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+public class TranscriptReplayer {
+
+    public static final int DEFAULT_MAX_MEMO_SIZE = 1 << 20;
+
+    private static final int MAX_GAMES_IN_FLIGHT_PER_THREAD = 16;
+
+    private final DictionaryIndex dictionaryIndex;
+    private final ScoringStrategy scoringStrategy;
+    private final int parallelism;
+    private final Map<String, Step> historyToStep;
+    private final LongAdder numMemoHits = new LongAdder();
+    private final LongAdder numMemoMisses = new LongAdder();
+
+    public TranscriptReplayer(DictionaryIndex dictionaryIndex, ScoringStrategy scoringStrategy, int parallelism) {
+        this(dictionaryIndex, scoringStrategy, parallelism, DEFAULT_MAX_MEMO_SIZE);
+    }
+
+    public TranscriptReplayer(DictionaryIndex dictionaryIndex, ScoringStrategy scoringStrategy, int parallelism, int maxMemoSize) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism = " + parallelism + " must be at least 1!");
+        }
+        if (maxMemoSize < 1) {
+            throw new IllegalArgumentException("maxMemoSize = " + maxMemoSize + " must be at least 1!");
+        }
+        this.dictionaryIndex = dictionaryIndex;
+        this.scoringStrategy = scoringStrategy;
+        this.parallelism = parallelism;
+        this.historyToStep = Collections.synchronizedMap(new LinkedHashMap<String, Step>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Step> eldest) {
+                return size() > maxMemoSize;
+            }
+        });
+    }
+
+    public static void main(String[] args) throws IOException {
+        String pathToDictionary = null;
+        String pathToTranscript = null;
+        String pathToOutput = null;
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        ScoringStrategy scoringStrategy = ScoringStrategy.MIN_MAX;
+        boolean packed = false;
+        for (String arg : args) {
+            if (arg.startsWith("--output=")) {
+                pathToOutput = arg.substring("--output=".length());
+            } else if (arg.startsWith("--threads=")) {
+                parallelism = Integer.parseInt(arg.substring("--threads=".length()));
+            } else if (arg.startsWith("--strategy=")) {
+                scoringStrategy = WordleRunner.parseScoringStrategy(arg.substring("--strategy=".length()));
+            } else if (arg.equals("--packed")) {
+                packed = true;
+            } else if (pathToDictionary == null) {
+                pathToDictionary = arg;
+            } else {
+                pathToTranscript = arg;
+            }
+        }
+        if (pathToTranscript == null) {
+            System.err.println("Usage: TranscriptReplayer <pathToDictionary> <pathToTranscript> [--output=PATH] [--threads=T] [--strategy=NAME] [--packed]");
+            System.exit(1);
+        }
+
+        TranscriptReplayer replayer = new TranscriptReplayer(WordleRunner.readDictionaryIndex(pathToDictionary, packed), scoringStrategy, parallelism);
+        try (BufferedReader transcript = Files.newBufferedReader(Paths.get(pathToTranscript), StandardCharsets.UTF_8);
+             Writer output = pathToOutput == null ? new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8))
+                     : Files.newBufferedWriter(Paths.get(pathToOutput), StandardCharsets.UTF_8)) {
+            Result result = replayer.replay(transcript, output);
+            System.err.printf("games=%d steps=%d memoHits=%d memoMisses=%d stepsPerSecond=%.2f%n", result.getNumGames(), result.getNumSteps(),
+                    result.getNumMemoHits(), result.getNumMemoMisses(), result.getStepsPerSecond());
+        }
+    }
+
+    public Result replay(BufferedReader transcript, Writer output) {
+        long startNanos = System.nanoTime();
+        long memoHitsBefore = numMemoHits.sum();
+        long memoMissesBefore = numMemoMisses.sum();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        Semaphore gamesInFlight = new Semaphore(parallelism * MAX_GAMES_IN_FLIGHT_PER_THREAD);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        LongAdder numSteps = new LongAdder();
+        int numGames = 0;
+        try {
+            List<String> gameLines = new ArrayList<>();
+            int lineNumber = 0;
+            int firstLineNumber = 1;
+            for (String line = transcript.readLine(); ; line = transcript.readLine()) {
+                lineNumber++;
+                boolean endOfGame = line == null || line.trim().isEmpty();
+                if (!endOfGame) {
+                    gameLines.add(line);
+                    endOfGame = isAllInPosition(line);
+                }
+                if (endOfGame && !gameLines.isEmpty()) {
+                    int gameIndex = numGames++;
+                    List<String> lines = gameLines;
+                    int gameLineNumber = firstLineNumber;
+                    gamesInFlight.acquire();
+                    executor.execute(() -> {
+                        try {
+                            if (failure.get() == null) {
+                                String replayedGame = replayGame(gameIndex, lines, gameLineNumber);
+                                synchronized (output) {
+                                    output.write(replayedGame);
+                                    output.flush();
+                                }
+                                numSteps.add(lines.size());
+                            }
+                        } catch (Throwable e) {
+                            failure.compareAndSet(null, e);
+                        } finally {
+                            gamesInFlight.release();
+                        }
+                    });
+                    gameLines = new ArrayList<>();
+                }
+                if (endOfGame) {
+                    firstLineNumber = lineNumber + 1;
+                }
+                if (line == null || failure.get() != null) {
+                    break;
+                }
+            }
+            gamesInFlight.acquire(parallelism * MAX_GAMES_IN_FLIGHT_PER_THREAD);
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading file.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while replaying games.", e);
+        } finally {
+            executor.shutdown();
+        }
+        Throwable cause = failure.get();
+        if (cause instanceof IllegalArgumentException) {
+            throw (IllegalArgumentException) cause;
+        } else if (cause instanceof IOException) {
+            throw new RuntimeException("Error writing file.", cause);
+        } else if (cause != null) {
+            throw new RuntimeException("Error replaying game.", cause);
+        }
+        return new Result(numGames, numSteps.sum(), numMemoHits.sum() - memoHitsBefore, numMemoMisses.sum() - memoMissesBefore, System.nanoTime() - startNanos);
+    }
+
+    private String replayGame(int gameIndex, List<String> lines, int firstLineNumber) {
+        StringBuilder replayedGame = new StringBuilder();
+        StringBuilder history = new StringBuilder();
+        WordleSolver solver = null;
+        int numSolverUpdates = 0;
+        List<String> guesses = new ArrayList<>();
+        List<List<PositionResponse>> responses = new ArrayList<>();
+        Step previousStep = historyToStep.computeIfAbsent("", emptyHistory -> new Step(dictionaryIndex.size()));
+        for (int stepIndex = 0; stepIndex < lines.size(); stepIndex++) {
+            String[] guessAndColors = lines.get(stepIndex).trim().split("\\s+", 2);
+            String guess = guessAndColors[0].toLowerCase();
+            List<PositionResponse> response = guessAndColors.length < 2 ? null : WordleRunner.parseResponse(guessAndColors[1], dictionaryIndex.getWordLength());
+            if (response == null || guess.length() != dictionaryIndex.getWordLength() || !WordleSolver.isLowercaseWord(guess)) {
+                throw new IllegalArgumentException("line " + (firstLineNumber + stepIndex) + " `" + lines.get(stepIndex) + "` must be a "
+                        + dictionaryIndex.getWordLength() + "-letter guess followed by " + dictionaryIndex.getWordLength() + " colors!");
+            }
+            if (new WordConstraints(dictionaryIndex.getWordLength()).updateFromGuess(guess, response) == null) {
+                throw new IllegalArgumentException("line " + (firstLineNumber + stepIndex) + " `" + lines.get(stepIndex) + "` has colors inconsistent with its guess!");
+            }
+            guesses.add(guess);
+            responses.add(response);
+
+            String solverGuess = previousStep.solverGuess;
+            if (solverGuess == null) {
+                numMemoMisses.increment();
+                solver = solver == null ? new WordleSolver(dictionaryIndex, 1, scoringStrategy) : solver;
+                for (; numSolverUpdates < stepIndex; numSolverUpdates++) {
+                    solver.updateFromGuess(guesses.get(numSolverUpdates), responses.get(numSolverUpdates));
+                }
+                solverGuess = solver.nextGuess();
+                previousStep.solverGuess = solverGuess;
+            } else {
+                numMemoHits.increment();
+            }
+
+            history.append(guess).append(':').append(FeedbackPatterns.fromPositionResponses(response)).append(';');
+            String key = history.toString();
+            Step step = historyToStep.get(key);
+            if (step == null) {
+                solver = solver == null ? new WordleSolver(dictionaryIndex, 1, scoringStrategy) : solver;
+                for (; numSolverUpdates <= stepIndex; numSolverUpdates++) {
+                    solver.updateFromGuess(guesses.get(numSolverUpdates), responses.get(numSolverUpdates));
+                }
+                step = new Step(solver.remainingWords.size());
+                historyToStep.put(key, step);
+            }
+            replayedGame.append(gameIndex).append('\t').append(stepIndex + 1).append('\t').append(guess).append('\t')
+                    .append(solverGuess).append('\t').append(step.numRemainingWords).append('\n');
+            previousStep = step;
+        }
+        return replayedGame.toString();
+    }
+
+    private static boolean isAllInPosition(String line) {
+        String[] guessAndColors = line.trim().split("\\s+", 2);
+        List<PositionResponse> response = guessAndColors.length < 2 ? null : WordleRunner.parseResponse(guessAndColors[1], guessAndColors[0].length());
+        return response != null && response.stream().allMatch(PositionResponse.IN_POSITION::equals);
+    }
+
+    private static class Step {
+
+        final int numRemainingWords;
+        volatile String solverGuess;
+
+        Step(int numRemainingWords) {
+            this.numRemainingWords = numRemainingWords;
+        }
+
+    }
+
+    public static class Result {
+
+        private final int numGames;
+        private final long numSteps;
+        private final long numMemoHits;
+        private final long numMemoMisses;
+        private final long elapsedNanos;
+
+        Result(int numGames, long numSteps, long numMemoHits, long numMemoMisses, long elapsedNanos) {
+            this.numGames = numGames;
+            this.numSteps = numSteps;
+            this.numMemoHits = numMemoHits;
+            this.numMemoMisses = numMemoMisses;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public int getNumGames() {
+            return numGames;
+        }
+
+        public long getNumSteps() {
+            return numSteps;
+        }
+
+        public long getNumMemoHits() {
+            return numMemoHits;
+        }
+
+        public long getNumMemoMisses() {
+            return numMemoMisses;
+        }
+
+        public double getStepsPerSecond() {
+            return numSteps / (elapsedNanos / 1e9);
+        }
+
+    }
+
+}
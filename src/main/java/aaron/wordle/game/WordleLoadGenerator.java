@@ -0,0 +1,179 @@
+package aaron.wordle.game;
+
+import aaron.wordle.solver.DictionaryIndex;
+import aaron.wordle.solver.FeedbackPatterns;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+
+public class WordleLoadGenerator {
+
+    private final String baseUrl;
+    private final int concurrency;
+
+    public WordleLoadGenerator(String baseUrl, int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency = " + concurrency + " must be at least 1!");
+        }
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.concurrency = concurrency;
+    }
+
+    public static void main(String[] args) {
+        String pathToDictionary = null;
+        String baseUrl = "http://localhost:8080";
+        int numSessions = 1000;
+        int concurrency = 64;
+        long seed = 0;
+        for (String arg : args) {
+            if (arg.startsWith("--url=")) {
+                baseUrl = arg.substring("--url=".length());
+            } else if (arg.startsWith("--sessions=")) {
+                numSessions = Integer.parseInt(arg.substring("--sessions=".length()));
+            } else if (arg.startsWith("--concurrency=")) {
+                concurrency = Integer.parseInt(arg.substring("--concurrency=".length()));
+            } else if (arg.startsWith("--seed=")) {
+                seed = Long.parseLong(arg.substring("--seed=".length()));
+            } else {
+                pathToDictionary = arg;
+            }
+        }
+        if (pathToDictionary == null) {
+            System.err.println("Usage: WordleLoadGenerator <pathToDictionary> [--url=URL] [--sessions=N] [--concurrency=C] [--seed=S]");
+            System.exit(1);
+        }
+
+        DictionaryIndex dictionaryIndex = WordleRunner.readDictionaryIndex(pathToDictionary);
+        Random random = new Random(seed);
+        List<String> answers = new ArrayList<>(numSessions);
+        for (int session = 0; session < numSessions; session++) {
+            answers.add(dictionaryIndex.getWord(random.nextInt(dictionaryIndex.size())));
+        }
+        new WordleLoadGenerator(baseUrl, concurrency).run(answers).print();
+    }
+
+    public Result run(List<String> answers) {
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        long startTimeNanos = System.nanoTime();
+        try {
+            List<Future<long[]>> sessions = new ArrayList<>();
+            for (String answer : answers) {
+                sessions.add(executor.submit(() -> play(answer)));
+            }
+            Result result = new Result();
+            for (Future<long[]> session : sessions) {
+                result.add(session.get());
+            }
+            result.elapsedNanos = System.nanoTime() - startTimeNanos;
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while generating load.", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Error playing session.", e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    long[] play(String answer) throws IOException {
+        List<Long> requestLatencyNanos = new ArrayList<>();
+        String sessionUrl = baseUrl + "/sessions/" + request("POST", baseUrl + "/sessions", null, requestLatencyNanos);
+        while (true) {
+            String guess = request("GET", sessionUrl + "/guess", null, requestLatencyNanos);
+            List<PositionResponse> response = FeedbackPatterns.toPositionResponses(FeedbackPatterns.compute(guess, answer), answer.length());
+            StringBuilder body = new StringBuilder(guess);
+            for (PositionResponse positionResponse : response) {
+                body.append(' ').append(positionResponse.getColor());
+            }
+            request("POST", sessionUrl + "/response", body.toString(), requestLatencyNanos);
+            if (guess.equals(answer)) {
+                break;
+            }
+        }
+        long[] latencies = new long[requestLatencyNanos.size()];
+        for (int requestIndex = 0; requestIndex < latencies.length; requestIndex++) {
+            latencies[requestIndex] = requestLatencyNanos.get(requestIndex);
+        }
+        return latencies;
+    }
+
+    private static String request(String method, String url, String body, List<Long> requestLatencyNanos) throws IOException {
+        long startTimeNanos = System.nanoTime();
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        connection.setRequestMethod(method);
+        if (body != null) {
+            connection.setDoOutput(true);
+            try (OutputStream outputStream = connection.getOutputStream()) {
+                outputStream.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        int statusCode = connection.getResponseCode();
+        ByteArrayOutputStream responseBody = new ByteArrayOutputStream();
+        try (InputStream inputStream = statusCode < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+            byte[] buffer = new byte[256];
+            for (int numRead = inputStream == null ? -1 : inputStream.read(buffer); numRead >= 0; numRead = inputStream.read(buffer)) {
+                responseBody.write(buffer, 0, numRead);
+            }
+        }
+        requestLatencyNanos.add(System.nanoTime() - startTimeNanos);
+        String response = new String(responseBody.toByteArray(), StandardCharsets.UTF_8);
+        if (statusCode >= 400) {
+            throw new IOException(method + " " + url + " failed with status " + statusCode + ": " + response);
+        }
+        return response;
+    }
+
+    public static class Result {
+
+        private final List<Long> requestLatencyNanos = new ArrayList<>();
+        private int numSessions;
+        private long elapsedNanos;
+
+        void add(long[] sessionRequestLatencyNanos) {
+            numSessions++;
+            for (long latencyNanos : sessionRequestLatencyNanos) {
+                requestLatencyNanos.add(latencyNanos);
+            }
+        }
+
+        public int getNumSessions() {
+            return numSessions;
+        }
+
+        public int getNumRequests() {
+            return requestLatencyNanos.size();
+        }
+
+        public double getSessionsPerSecond() {
+            return numSessions / (elapsedNanos / 1e9);
+        }
+
+        public double getRequestsPerSecond() {
+            return requestLatencyNanos.size() / (elapsedNanos / 1e9);
+        }
+
+        public long getRequestLatencyPercentileNanos(double percentile) {
+            List<Long> sortedLatencies = new ArrayList<>(requestLatencyNanos);
+            Collections.sort(sortedLatencies);
+            int index = (int) Math.ceil(percentile / 100 * sortedLatencies.size()) - 1;
+            return sortedLatencies.get(Math.max(0, Math.min(index, sortedLatencies.size() - 1)));
+        }
+
+        public void print() {
+            System.out.printf("sessions=%d requests=%d sessionsPerSecond=%.2f requestsPerSecond=%.2f%n",
+                    numSessions, getNumRequests(), getSessionsPerSecond(), getRequestsPerSecond());
+            System.out.printf("requestLatency p50=%.3fms p99=%.3fms max=%.3fms%n", getRequestLatencyPercentileNanos(50) / 1e6,
+                    getRequestLatencyPercentileNanos(99) / 1e6, getRequestLatencyPercentileNanos(100) / 1e6);
+        }
+
+    }
+
+}
@@ -1,5 +1,13 @@
 package aaron.wordle.game;
 
+import aaron.wordle.solver.CompiledDictionary;
+import aaron.wordle.solver.DecisionTree;
+import aaron.wordle.solver.DictionaryIndex;
+import aaron.wordle.solver.GuessCache;
+import aaron.wordle.solver.PackedWords;
+import aaron.wordle.solver.Guesser;
+import aaron.wordle.solver.ScoringStrategy;
+import aaron.wordle.solver.SolverListener;
 import aaron.wordle.solver.WordleSolver;
 
 import java.io.*;
@@ -11,23 +19,83 @@ import java.util.stream.Stream;
 
 public class WordleRunner {
 
-    List<String> dictionary;
-    WordleSolver solver;
+    DictionaryIndex dictionaryIndex;
+    Guesser solver;
     Console console;
 
     public WordleRunner(String pathToDictionary) {
-        dictionary = new ArrayList<>();
+        this(pathToDictionary, ScoringStrategy.MIN_MAX);
+    }
+
+    public WordleRunner(String pathToDictionary, ScoringStrategy scoringStrategy) {
+        dictionaryIndex = readDictionaryIndex(pathToDictionary);
+        WordleSolver wordleSolver = new WordleSolver(dictionaryIndex, 1, scoringStrategy);
+        String cacheDirectory = System.getProperty("wordle.cacheDir", Paths.get(System.getProperty("user.home"), ".wordle-solver").toString());
+        wordleSolver.setGuessCache(new GuessCache(Paths.get(cacheDirectory), dictionaryIndex));
+        solver = wordleSolver;
+        console = System.console();
+        if (console != null) {
+            wordleSolver.setSolverListener(new SolverListener() {
+                @Override
+                public void onSearchProgress(int numCandidatesProcessed, int numCandidates, long elapsedNanos) {
+                    double remainingTime = elapsedNanos / 1e9 / numCandidatesProcessed * (numCandidates - numCandidatesProcessed);
+                    console.printf("Estimated remaining time to guess: " + remainingTime + " seconds.\n");
+                }
+            });
+        }
+    }
+
+    public WordleRunner(DecisionTree decisionTree) {
+        solver = decisionTree.newGuesser();
+        console = System.console();
+    }
+
+    public static List<String> readDictionary(String pathToDictionary) {
+        List<String> dictionary = new ArrayList<>();
         try (Stream<String> stream = Files.lines(Paths.get(pathToDictionary))) {
             stream.forEach(line -> dictionary.add(line.trim().toLowerCase()));
         } catch (IOException e) {
             throw new RuntimeException("Error reading file.", e);
         }
-        solver = new WordleSolver(dictionary);
-        console = System.console();
+        return dictionary;
+    }
+
+    public static DictionaryIndex readDictionaryIndex(String pathToDictionary) {
+        return readDictionaryIndex(pathToDictionary, false);
+    }
+
+    public static DictionaryIndex readDictionaryIndex(String pathToDictionary, boolean packed) {
+        boolean compiled = CompiledDictionary.isCompiledDictionary(Paths.get(pathToDictionary));
+        if (packed) {
+            return compiled ? CompiledDictionary.loadPacked(Paths.get(pathToDictionary), true)
+                    : new DictionaryIndex(PackedWords.pack(readDictionary(pathToDictionary), true));
+        }
+        return compiled ? CompiledDictionary.load(Paths.get(pathToDictionary)) : WordleSolver.indexDictionary(readDictionary(pathToDictionary));
+    }
+
+    public static ScoringStrategy parseScoringStrategy(String name) {
+        return ScoringStrategy.fromName(name.trim().toLowerCase())
+                .orElseThrow(() -> new IllegalArgumentException("Unknown scoring strategy " + name + "! Expected one of " + Arrays.stream(ScoringStrategy.values()).map(ScoringStrategy::getName).collect(Collectors.joining(", ")) + "."));
     }
 
     public static void main(String[] args) {
-        new WordleRunner(args[0]).run();
+        String pathToDictionary = null;
+        String pathToDecisionTree = null;
+        ScoringStrategy scoringStrategy = ScoringStrategy.MIN_MAX;
+        for (String arg : args) {
+            if (arg.startsWith("--tree=")) {
+                pathToDecisionTree = arg.substring("--tree=".length());
+            } else if (arg.startsWith("--strategy=")) {
+                scoringStrategy = parseScoringStrategy(arg.substring("--strategy=".length()));
+            } else {
+                pathToDictionary = arg;
+            }
+        }
+        if (pathToDecisionTree != null) {
+            new WordleRunner(DecisionTree.open(Paths.get(pathToDecisionTree))).run();
+        } else {
+            new WordleRunner(pathToDictionary, scoringStrategy).run();
+        }
     }
 
     private void run() {
@@ -56,12 +124,16 @@ public class WordleRunner {
     }
 
     private List<PositionResponse> getResponseFromLine(String line) {
+        return parseResponse(line, solver.getWordLength());
+    }
+
+    static List<PositionResponse> parseResponse(String line, int wordLength) {
         line = line.trim().toLowerCase().replaceAll("[^a-z]+", " ");
         List<PositionResponse> response = Arrays.stream(line.split(" "))
                 .map(PositionResponse::fromColor)
                 .map(color -> color.orElse(null))
                 .collect(Collectors.toList());
-        return response.stream().anyMatch(Objects::isNull) || response.size() != solver.getWordLength() ? null : response;
+        return response.stream().anyMatch(Objects::isNull) || response.size() != wordLength ? null : response;
     }
 
 }
@@ -0,0 +1,332 @@
+package aaron.wordle.game;
+
+import aaron.wordle.solver.CompiledDictionary;
+import aaron.wordle.solver.DictionaryIndex;
+import aaron.wordle.solver.GuessCache;
+import aaron.wordle.solver.ScoringStrategy;
+import aaron.wordle.solver.SolverState;
+import aaron.wordle.solver.WordleSolver;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class WordleServer {
+
+    public static final long DEFAULT_SESSION_IDLE_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(30);
+    public static final int MAX_CACHED_GUESSES = 1 << 16;
+
+    private static final int MAX_QUEUED_REQUESTS_PER_THREAD = 64;
+    private static final ThreadLocal<Boolean> OVERLOADED = new ThreadLocal<>();
+
+    private final DictionaryIndex dictionaryIndex;
+    private final ScoringStrategy scoringStrategy;
+    private final GuessCache guessCache;
+    private final ConcurrentMap<Long, Session> sessionIdToSession = new ConcurrentHashMap<>();
+    private final AtomicLong nextSessionId = new AtomicLong();
+    private final long sessionIdleTimeoutNanos;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService evictionExecutor;
+    private final HttpServer httpServer;
+
+    public WordleServer(List<String> dictionary, ScoringStrategy scoringStrategy, int port, int maxNumThreads) {
+        this(WordleSolver.indexDictionary(dictionary), scoringStrategy, port, maxNumThreads);
+    }
+
+    public WordleServer(DictionaryIndex dictionaryIndex, ScoringStrategy scoringStrategy, int port, int maxNumThreads) {
+        this(dictionaryIndex, scoringStrategy, port, maxNumThreads, DEFAULT_SESSION_IDLE_TIMEOUT_MILLIS);
+    }
+
+    public WordleServer(DictionaryIndex dictionaryIndex, ScoringStrategy scoringStrategy, int port, int maxNumThreads, long sessionIdleTimeoutMillis) {
+        if (sessionIdleTimeoutMillis < 1) {
+            throw new IllegalArgumentException("sessionIdleTimeoutMillis = " + sessionIdleTimeoutMillis + " must be at least 1!");
+        }
+        this.dictionaryIndex = dictionaryIndex;
+        this.scoringStrategy = scoringStrategy;
+        this.guessCache = new GuessCache(MAX_CACHED_GUESSES);
+        this.sessionIdleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sessionIdleTimeoutMillis);
+        this.executor = newSessionExecutor(maxNumThreads, maxNumThreads * MAX_QUEUED_REQUESTS_PER_THREAD);
+        this.evictionExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "wordle-session-eviction");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            this.httpServer = HttpServer.create(new InetSocketAddress(port), 0);
+        } catch (IOException e) {
+            throw new RuntimeException("Error binding to port " + port + ".", e);
+        }
+        httpServer.createContext("/sessions", this::handle);
+        httpServer.setExecutor(executor);
+    }
+
+    public static void main(String[] args) {
+        String pathToDictionary = null;
+        int port = 8080;
+        int maxNumThreads = Runtime.getRuntime().availableProcessors();
+        ScoringStrategy scoringStrategy = ScoringStrategy.MIN_MAX;
+        boolean packed = false;
+        long sessionIdleTimeoutMillis = DEFAULT_SESSION_IDLE_TIMEOUT_MILLIS;
+        for (String arg : args) {
+            if (arg.startsWith("--port=")) {
+                port = Integer.parseInt(arg.substring("--port=".length()));
+            } else if (arg.startsWith("--threads=")) {
+                maxNumThreads = Integer.parseInt(arg.substring("--threads=".length()));
+            } else if (arg.startsWith("--strategy=")) {
+                scoringStrategy = WordleRunner.parseScoringStrategy(arg.substring("--strategy=".length()));
+            } else if (arg.startsWith("--idle-timeout=")) {
+                sessionIdleTimeoutMillis = TimeUnit.SECONDS.toMillis(Long.parseLong(arg.substring("--idle-timeout=".length())));
+            } else if (arg.equals("--packed")) {
+                packed = true;
+            } else {
+                pathToDictionary = arg;
+            }
+        }
+        if (pathToDictionary == null) {
+            System.err.println("Usage: WordleServer <pathToDictionary> [--port=P] [--threads=T] [--strategy=NAME] [--idle-timeout=SECONDS] [--packed]");
+            System.exit(1);
+        }
+
+        WordleServer server = new WordleServer(WordleRunner.readDictionaryIndex(pathToDictionary, packed), scoringStrategy, port, maxNumThreads,
+                sessionIdleTimeoutMillis);
+        server.newSolver(new SolverState(server.dictionaryIndex)).nextGuess();
+        server.start();
+        System.out.printf("Listening on port %d.%n", server.getPort());
+    }
+
+    public void start() {
+        long evictionPeriodNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(1), Math.min(sessionIdleTimeoutNanos / 2, TimeUnit.MINUTES.toNanos(1)));
+        evictionExecutor.scheduleAtFixedRate(this::evictIdleSessions, evictionPeriodNanos, evictionPeriodNanos, TimeUnit.NANOSECONDS);
+        httpServer.start();
+    }
+
+    public void stop() {
+        httpServer.stop(0);
+        evictionExecutor.shutdown();
+        executor.shutdown();
+    }
+
+    public int getPort() {
+        return httpServer.getAddress().getPort();
+    }
+
+    public int getNumSessions() {
+        return sessionIdToSession.size();
+    }
+
+    int evictIdleSessions() {
+        long nowNanos = System.nanoTime();
+        int numEvicted = 0;
+        for (Iterator<Session> sessions = sessionIdToSession.values().iterator(); sessions.hasNext(); ) {
+            if (nowNanos - sessions.next().lastAccessNanos >= sessionIdleTimeoutNanos) {
+                sessions.remove();
+                numEvicted++;
+            }
+        }
+        return numEvicted;
+    }
+
+    static ExecutorService newSessionExecutor(int maxNumThreads, int maxQueuedRequests) {
+        try {
+            ExecutorService virtualThreadExecutor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            return limitAdmissions(virtualThreadExecutor, maxNumThreads + maxQueuedRequests);
+        } catch (ReflectiveOperationException e) {
+            return new ThreadPoolExecutor(maxNumThreads, maxNumThreads, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(maxQueuedRequests), (exchangeTask, pool) -> runOverloaded(exchangeTask));
+        }
+    }
+
+    static ExecutorService limitAdmissions(ExecutorService executor, int maxAdmittedRequests) {
+        return new AdmissionLimitedExecutor(executor, maxAdmittedRequests);
+    }
+
+    private static void runOverloaded(Runnable exchangeTask) {
+        OVERLOADED.set(true);
+        try {
+            exchangeTask.run();
+        } finally {
+            OVERLOADED.remove();
+        }
+    }
+
+    static boolean isOverloaded() {
+        return Boolean.TRUE.equals(OVERLOADED.get());
+    }
+
+    private WordleSolver newSolver(SolverState solverState) {
+        WordleSolver solver = new WordleSolver(dictionaryIndex, 1, scoringStrategy, solverState);
+        solver.setGuessCache(guessCache);
+        return solver;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (isOverloaded()) {
+                respond(exchange, 503, "Server busy.");
+                return;
+            }
+            String[] pathParts = exchange.getRequestURI().getPath().split("/");
+            String method = exchange.getRequestMethod();
+            if (pathParts.length == 2 && method.equals("POST")) {
+                long sessionId = nextSessionId.incrementAndGet();
+                sessionIdToSession.put(sessionId, new Session(new SolverState(dictionaryIndex)));
+                respond(exchange, 201, Long.toString(sessionId));
+                return;
+            }
+            Session session = pathParts.length >= 3 ? sessionIdToSession.get(parseSessionId(pathParts[2])) : null;
+            if (session != null) {
+                session.lastAccessNanos = System.nanoTime();
+            }
+            if (session == null) {
+                respond(exchange, 404, "Unknown session.");
+            } else if (pathParts.length == 3 && method.equals("DELETE")) {
+                sessionIdToSession.remove(parseSessionId(pathParts[2]));
+                respond(exchange, 200, "");
+            } else if (pathParts.length == 4 && pathParts[3].equals("guess") && method.equals("GET")) {
+                String guess = newSolver(session.solverState).nextGuess();
+                respond(exchange, guess == null ? 409 : 200, guess == null ? "No words remain." : guess);
+            } else if (pathParts.length == 4 && pathParts[3].equals("response") && method.equals("POST")) {
+                respond(exchange, 200, Integer.toString(updateFromGuess(parseSessionId(pathParts[2]), session, readBody(exchange))));
+            } else {
+                respond(exchange, 405, "Unsupported request.");
+            }
+        } catch (IllegalArgumentException e) {
+            respond(exchange, 400, e.getMessage());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private int updateFromGuess(long sessionId, Session session, String body) {
+        int wordLength = dictionaryIndex.getWordLength();
+        String[] tokens = body.trim().toLowerCase().split("\\s+");
+        if (tokens.length != wordLength + 1) {
+            throw new IllegalArgumentException("Expected a guess followed by " + wordLength + " colors!");
+        }
+        if (!WordleSolver.isLowercaseWord(tokens[0]) || tokens[0].length() != wordLength) {
+            throw new IllegalArgumentException("Guess " + tokens[0] + " must be " + wordLength + " letters!");
+        }
+        List<PositionResponse> response = new ArrayList<>(wordLength);
+        for (int position = 0; position < wordLength; position++) {
+            String color = tokens[position + 1];
+            response.add(PositionResponse.fromColor(color).orElseThrow(() -> new IllegalArgumentException("Unknown color " + color + "!")));
+        }
+        int numRemainingWords;
+        synchronized (session) {
+            session.solverState = session.solverState.updateFromGuess(dictionaryIndex, tokens[0], response);
+            numRemainingWords = session.solverState.getNumRemainingWords();
+        }
+        if (response.stream().allMatch(PositionResponse.IN_POSITION::equals)) {
+            sessionIdToSession.remove(sessionId);
+        }
+        return numRemainingWords;
+    }
+
+    private static long parseSessionId(String sessionId) {
+        try {
+            return Long.parseLong(sessionId);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid session id " + sessionId + "!", e);
+        }
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        byte[] buffer = new byte[256];
+        try (InputStream inputStream = exchange.getRequestBody()) {
+            for (int numRead = inputStream.read(buffer); numRead >= 0; numRead = inputStream.read(buffer)) {
+                body.write(buffer, 0, numRead);
+            }
+        }
+        return new String(body.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static void respond(HttpExchange exchange, int statusCode, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(statusCode, bytes.length == 0 ? -1 : bytes.length);
+        if (bytes.length > 0) {
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(bytes);
+            }
+        }
+    }
+
+    private static class Session {
+
+        volatile SolverState solverState;
+        volatile long lastAccessNanos;
+
+        Session(SolverState solverState) {
+            this.solverState = solverState;
+            this.lastAccessNanos = System.nanoTime();
+        }
+
+    }
+
+    private static class AdmissionLimitedExecutor extends AbstractExecutorService {
+
+        private final ExecutorService executor;
+        private final Semaphore admissions;
+
+        AdmissionLimitedExecutor(ExecutorService executor, int maxAdmittedRequests) {
+            this.executor = executor;
+            this.admissions = new Semaphore(maxAdmittedRequests);
+        }
+
+        @Override
+        public void execute(Runnable exchangeTask) {
+            if (!admissions.tryAcquire()) {
+                runOverloaded(exchangeTask);
+                return;
+            }
+            try {
+                executor.execute(() -> {
+                    try {
+                        exchangeTask.run();
+                    } finally {
+                        admissions.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                admissions.release();
+                throw e;
+            }
+        }
+
+        @Override
+        public void shutdown() {
+            executor.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return executor.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return executor.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return executor.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return executor.awaitTermination(timeout, unit);
+        }
+
+    }
+
+}
@@ -0,0 +1,287 @@
+package aaron.wordle.game;
+
+import aaron.wordle.solver.DictionaryIndex;
+import aaron.wordle.solver.FeedbackPatterns;
+import aaron.wordle.solver.GuessCache;
+import aaron.wordle.solver.GuessPool;
+import aaron.wordle.solver.MultiBoardSolver;
+import aaron.wordle.solver.ScoringStrategy;
+import aaron.wordle.solver.WordleSolver;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+public class WordleSimulator {
+
+    public static final int MAX_NUM_GUESSES = 6;
+
+    private final DictionaryIndex dictionaryIndex;
+    private final int parallelism;
+    private final ScoringStrategy scoringStrategy;
+    private final GuessCache guessCache;
+    private int lookaheadDepth = 1;
+    private int lookaheadMaxRemainingWords;
+    private int numBoards = 1;
+    private GuessPool guessPool;
+
+    public WordleSimulator(List<String> dictionary, int parallelism, GuessCache guessCache) {
+        this(dictionary, parallelism, ScoringStrategy.MIN_MAX, guessCache);
+    }
+
+    public WordleSimulator(List<String> dictionary, int parallelism, ScoringStrategy scoringStrategy, GuessCache guessCache) {
+        this(WordleSolver.indexDictionary(dictionary), parallelism, scoringStrategy, guessCache);
+    }
+
+    public WordleSimulator(DictionaryIndex dictionaryIndex, int parallelism, ScoringStrategy scoringStrategy, GuessCache guessCache) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism = " + parallelism + " must be at least 1!");
+        }
+        this.dictionaryIndex = dictionaryIndex;
+        this.parallelism = parallelism;
+        this.scoringStrategy = scoringStrategy;
+        this.guessCache = guessCache;
+    }
+
+    public static void main(String[] args) {
+        String pathToDictionary = null;
+        int sampleSize = Integer.MAX_VALUE;
+        long seed = 0;
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        boolean useCache = true;
+        ScoringStrategy scoringStrategy = ScoringStrategy.MIN_MAX;
+        int lookaheadDepth = 1;
+        int lookaheadMaxRemainingWords = 0;
+        boolean packed = false;
+        int numBoards = 1;
+        String pathToGuesses = null;
+        boolean hardMode = false;
+        for (String arg : args) {
+            if (arg.startsWith("--sample=")) {
+                sampleSize = Integer.parseInt(arg.substring("--sample=".length()));
+            } else if (arg.startsWith("--seed=")) {
+                seed = Long.parseLong(arg.substring("--seed=".length()));
+            } else if (arg.startsWith("--threads=")) {
+                parallelism = Integer.parseInt(arg.substring("--threads=".length()));
+            } else if (arg.startsWith("--strategy=")) {
+                scoringStrategy = WordleRunner.parseScoringStrategy(arg.substring("--strategy=".length()));
+            } else if (arg.startsWith("--lookahead=")) {
+                String[] lookahead = arg.substring("--lookahead=".length()).split(":");
+                lookaheadDepth = Integer.parseInt(lookahead[0]);
+                lookaheadMaxRemainingWords = lookahead.length > 1 ? Integer.parseInt(lookahead[1]) : 100;
+            } else if (arg.startsWith("--boards=")) {
+                numBoards = Integer.parseInt(arg.substring("--boards=".length()));
+            } else if (arg.startsWith("--guesses=")) {
+                pathToGuesses = arg.substring("--guesses=".length());
+            } else if (arg.equals("--hard")) {
+                hardMode = true;
+            } else if (arg.equals("--no-cache")) {
+                useCache = false;
+            } else if (arg.equals("--packed")) {
+                packed = true;
+            } else {
+                pathToDictionary = arg;
+            }
+        }
+        if (pathToDictionary == null) {
+            System.err.println("Usage: WordleSimulator <pathToDictionary> [--sample=N] [--seed=S] [--threads=T] [--strategy=NAME] [--lookahead=DEPTH[:MAX_WORDS]] [--boards=N] [--guesses=PATH] [--hard] [--packed] [--no-cache]");
+            System.exit(1);
+        }
+
+        DictionaryIndex dictionaryIndex = WordleRunner.readDictionaryIndex(pathToDictionary, packed);
+        List<String> answers = new ArrayList<>(dictionaryIndex.getWords());
+        if (sampleSize < answers.size()) {
+            Collections.shuffle(answers, new Random(seed));
+            answers = answers.subList(0, sampleSize);
+        }
+        if (answers.size() % numBoards != 0) {
+            System.err.printf("Dropping %d answers that do not fill a %d-board game.%n", answers.size() % numBoards, numBoards);
+            answers = answers.subList(0, answers.size() - answers.size() % numBoards);
+        }
+        WordleSimulator simulator = new WordleSimulator(dictionaryIndex, parallelism, scoringStrategy, useCache ? new GuessCache() : null);
+        simulator.setLookahead(lookaheadDepth, lookaheadMaxRemainingWords);
+        simulator.setNumBoards(numBoards);
+        if (pathToGuesses != null || hardMode) {
+            DictionaryIndex allowedGuesses = pathToGuesses == null ? dictionaryIndex : WordleRunner.readDictionaryIndex(pathToGuesses, packed);
+            simulator.setGuessPool(new GuessPool(allowedGuesses, hardMode, GuessPool.DEFAULT_MAX_CANDIDATES));
+        }
+        simulator.simulate(answers).print();
+    }
+
+    public void setLookahead(int lookaheadDepth, int lookaheadMaxRemainingWords) {
+        this.lookaheadDepth = lookaheadDepth;
+        this.lookaheadMaxRemainingWords = lookaheadMaxRemainingWords;
+    }
+
+    public void setNumBoards(int numBoards) {
+        if (numBoards < 1) {
+            throw new IllegalArgumentException("numBoards = " + numBoards + " must be at least 1!");
+        }
+        this.numBoards = numBoards;
+    }
+
+    public void setGuessPool(GuessPool guessPool) {
+        this.guessPool = guessPool;
+    }
+
+    public Result simulate(List<String> answers) {
+        if (answers.size() % numBoards != 0) {
+            throw new IllegalArgumentException("answers.size() = " + answers.size() + " must be a multiple of numBoards = " + numBoards + "!");
+        }
+        if (guessCache != null) {
+            if (numBoards == 1) {
+                newSolver().nextGuess();
+            } else {
+                newMultiBoardSolver().nextGuess();
+            }
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        long startTimeNanos = System.nanoTime();
+        try {
+            List<Future<long[]>> games = new ArrayList<>();
+            for (int firstAnswer = 0; firstAnswer + numBoards <= answers.size(); firstAnswer += numBoards) {
+                List<String> gameAnswers = answers.subList(firstAnswer, firstAnswer + numBoards);
+                games.add(executor.submit(() -> numBoards == 1 ? play(gameAnswers.get(0)) : play(gameAnswers)));
+            }
+            Result result = new Result(MAX_NUM_GUESSES + numBoards - 1);
+            for (Future<long[]> game : games) {
+                result.add(game.get());
+            }
+            result.elapsedNanos = System.nanoTime() - startTimeNanos;
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while simulating games.", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Error simulating game.", e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    long[] play(String answer) {
+        WordleSolver solver = newSolver();
+        List<Long> guessLatencyNanos = new ArrayList<>();
+        while (true) {
+            long startTimeNanos = System.nanoTime();
+            String guess = solver.nextGuess();
+            guessLatencyNanos.add(System.nanoTime() - startTimeNanos);
+            if (guess == null) {
+                throw new IllegalStateException("solver ran out of words before guessing " + answer + "!");
+            }
+            if (guess.equals(answer)) {
+                break;
+            }
+            solver.updateFromGuess(guess, FeedbackPatterns.toPositionResponses(FeedbackPatterns.compute(guess, answer), answer.length()));
+        }
+        return toArray(guessLatencyNanos);
+    }
+
+    long[] play(List<String> answers) {
+        MultiBoardSolver solver = newMultiBoardSolver();
+        List<Long> guessLatencyNanos = new ArrayList<>();
+        while (!solver.isSolved()) {
+            long startTimeNanos = System.nanoTime();
+            String guess = solver.nextGuess();
+            guessLatencyNanos.add(System.nanoTime() - startTimeNanos);
+            if (guess == null) {
+                throw new IllegalStateException("solver ran out of words before guessing " + answers + "!");
+            }
+            List<List<PositionResponse>> responses = new ArrayList<>();
+            for (String answer : answers) {
+                responses.add(FeedbackPatterns.toPositionResponses(FeedbackPatterns.compute(guess, answer), answer.length()));
+            }
+            solver.updateFromGuess(guess, responses);
+        }
+        return toArray(guessLatencyNanos);
+    }
+
+    private static long[] toArray(List<Long> guessLatencyNanos) {
+        long[] latencies = new long[guessLatencyNanos.size()];
+        for (int guessIndex = 0; guessIndex < latencies.length; guessIndex++) {
+            latencies[guessIndex] = guessLatencyNanos.get(guessIndex);
+        }
+        return latencies;
+    }
+
+    private WordleSolver newSolver() {
+        WordleSolver solver = new WordleSolver(dictionaryIndex, 1, scoringStrategy);
+        solver.setLookahead(lookaheadDepth, lookaheadMaxRemainingWords);
+        solver.setGuessPool(guessPool);
+        if (guessCache != null) {
+            solver.setGuessCache(guessCache);
+        }
+        return solver;
+    }
+
+    private MultiBoardSolver newMultiBoardSolver() {
+        MultiBoardSolver solver = new MultiBoardSolver(dictionaryIndex, numBoards, 1, scoringStrategy);
+        if (guessCache != null) {
+            solver.setGuessCache(guessCache);
+        }
+        return solver;
+    }
+
+    public static class Result {
+
+        private final SortedMap<Integer, Integer> numGuessesToNumGames = new TreeMap<>();
+        private final List<Long> guessLatencyNanos = new ArrayList<>();
+        private final int maxNumGuesses;
+        private int numGames;
+        private int numFailures;
+        private long elapsedNanos;
+
+        Result(int maxNumGuesses) {
+            this.maxNumGuesses = maxNumGuesses;
+        }
+
+        void add(long[] gameGuessLatencyNanos) {
+            numGames++;
+            numGuessesToNumGames.merge(gameGuessLatencyNanos.length, 1, Integer::sum);
+            if (gameGuessLatencyNanos.length > maxNumGuesses) {
+                numFailures++;
+            }
+            for (long latencyNanos : gameGuessLatencyNanos) {
+                guessLatencyNanos.add(latencyNanos);
+            }
+        }
+
+        public SortedMap<Integer, Integer> getNumGuessesToNumGames() {
+            return Collections.unmodifiableSortedMap(numGuessesToNumGames);
+        }
+
+        public int getNumGames() {
+            return numGames;
+        }
+
+        public int getNumFailures() {
+            return numFailures;
+        }
+
+        public double getAverageNumGuesses() {
+            return (double) guessLatencyNanos.size() / numGames;
+        }
+
+        public double getGamesPerSecond() {
+            return numGames / (elapsedNanos / 1e9);
+        }
+
+        public long getGuessLatencyPercentileNanos(double percentile) {
+            List<Long> sortedLatencies = new ArrayList<>(guessLatencyNanos);
+            Collections.sort(sortedLatencies);
+            int index = (int) Math.ceil(percentile / 100 * sortedLatencies.size()) - 1;
+            return sortedLatencies.get(Math.max(0, Math.min(index, sortedLatencies.size() - 1)));
+        }
+
+        public void print() {
+            System.out.printf("games=%d averageGuesses=%.4f failures(>%d guesses)=%d gamesPerSecond=%.2f%n",
+                    numGames, getAverageNumGuesses(), maxNumGuesses, numFailures, getGamesPerSecond());
+            System.out.printf("guessLatency p50=%.3fms p99=%.3fms%n",
+                    getGuessLatencyPercentileNanos(50) / 1e6, getGuessLatencyPercentileNanos(99) / 1e6);
+            for (Map.Entry<Integer, Integer> entry : numGuessesToNumGames.entrySet()) {
+                System.out.printf("%3d guesses: %d%n", entry.getKey(), entry.getValue());
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,138 @@
+package aaron.wordle.solver;
+
+import aaron.wordle.game.WordleRunner;
+
+import java.io.*;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.CRC32;
+
+public class CompiledDictionary {
+
+    static final int MAGIC = 0x57444331;
+
+    private static final int HEADER_BYTES = 3 * Integer.BYTES + Long.BYTES;
+
+    private CompiledDictionary() {
+        throw new IllegalStateException();
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: CompiledDictionary <pathToDictionary> <pathToCompiledDictionary>");
+            System.exit(1);
+        }
+        DictionaryIndex dictionaryIndex = WordleSolver.indexDictionary(WordleRunner.readDictionary(args[0]));
+        compile(dictionaryIndex, Paths.get(args[1]));
+        System.out.printf("words=%d wordLength=%d bytes=%d%n", dictionaryIndex.size(), dictionaryIndex.getWordLength(),
+                HEADER_BYTES + (long) dictionaryIndex.size() * dictionaryIndex.getWordLength());
+    }
+
+    public static void compile(List<String> dictionary, Path pathToCompiledDictionary) {
+        compile(WordleSolver.indexDictionary(dictionary), pathToCompiledDictionary);
+    }
+
+    public static void compile(DictionaryIndex dictionaryIndex, Path pathToCompiledDictionary) {
+        CRC32 checksum = new CRC32();
+        for (int wordId = 0; wordId < dictionaryIndex.size(); wordId++) {
+            checksum.update(dictionaryIndex.getEncodedWord(wordId));
+        }
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(pathToCompiledDictionary.toFile())))) {
+            output.writeInt(MAGIC);
+            output.writeInt(dictionaryIndex.getWordLength());
+            output.writeInt(dictionaryIndex.size());
+            output.writeLong(checksum.getValue());
+            for (int wordId = 0; wordId < dictionaryIndex.size(); wordId++) {
+                output.write(dictionaryIndex.getEncodedWord(wordId));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Error writing file.", e);
+        }
+    }
+
+    public static DictionaryIndex load(Path pathToCompiledDictionary) {
+        MappedByteBuffer buffer = map(pathToCompiledDictionary);
+        int wordLength = buffer.getInt(Integer.BYTES);
+        int numWords = buffer.getInt(2 * Integer.BYTES);
+        byte[][] encodedWords = new byte[numWords][wordLength];
+        ByteBuffer letters = buffer.duplicate();
+        ((Buffer) letters).position(HEADER_BYTES);
+        for (byte[] encodedWord : encodedWords) {
+            letters.get(encodedWord);
+        }
+        return new DictionaryIndex(encodedWords);
+    }
+
+    public static DictionaryIndex loadPacked(Path pathToCompiledDictionary, boolean offHeap) {
+        MappedByteBuffer buffer = map(pathToCompiledDictionary);
+        int wordLength = buffer.getInt(Integer.BYTES);
+        int numWords = buffer.getInt(2 * Integer.BYTES);
+        if (wordLength > PackedWords.MAX_WORD_LENGTH) {
+            throw new IllegalArgumentException("wordLength = " + wordLength + " is too long to pack!");
+        }
+        LongBuffer packedWords = PackedWords.allocate(numWords, offHeap);
+        for (int wordId = 0; wordId < numWords; wordId++) {
+            long packedWord = 0;
+            int wordOffset = HEADER_BYTES + wordId * wordLength;
+            for (int position = wordLength - 1; position >= 0; position--) {
+                packedWord = (packedWord << PackedWords.BITS_PER_LETTER) | buffer.get(wordOffset + position);
+            }
+            packedWords.put(wordId, packedWord);
+        }
+        return new DictionaryIndex(new PackedWords(wordLength, packedWords));
+    }
+
+    private static MappedByteBuffer map(Path pathToCompiledDictionary) {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(pathToCompiledDictionary, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading file.", e);
+        }
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("buffer does not contain a compiled dictionary!");
+        }
+        int wordLength = buffer.getInt(Integer.BYTES);
+        int numWords = buffer.getInt(2 * Integer.BYTES);
+        long expectedChecksum = buffer.getLong(3 * Integer.BYTES);
+        if (wordLength < 1 || wordLength > FeedbackPatterns.MAX_WORD_LENGTH || numWords < 1) {
+            throw new IllegalArgumentException("compiled dictionary has wordLength = " + wordLength + " and numWords = " + numWords + "!");
+        }
+        if (buffer.capacity() != HEADER_BYTES + (long) numWords * wordLength) {
+            throw new IllegalArgumentException("compiled dictionary has " + buffer.capacity() + " bytes but its header describes " + (HEADER_BYTES + (long) numWords * wordLength) + "!");
+        }
+
+        for (int offset = HEADER_BYTES; offset < buffer.capacity(); offset++) {
+            byte letter = buffer.get(offset);
+            if (letter < 0 || letter >= 26) {
+                throw new IllegalArgumentException("compiled dictionary contains letter code " + letter + "!");
+            }
+        }
+        CRC32 checksum = new CRC32();
+        ByteBuffer letters = buffer.duplicate();
+        ((Buffer) letters).position(HEADER_BYTES);
+        checksum.update(letters);
+        if (checksum.getValue() != expectedChecksum) {
+            throw new IllegalArgumentException("compiled dictionary checksum " + checksum.getValue() + " does not match header checksum " + expectedChecksum + "!");
+        }
+        return buffer;
+    }
+
+    public static boolean isCompiledDictionary(Path path) {
+        try (DataInputStream input = new DataInputStream(new FileInputStream(path.toFile()))) {
+            return input.readInt() == MAGIC;
+        } catch (EOFException e) {
+            return false;
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading file.", e);
+        }
+    }
+
+}
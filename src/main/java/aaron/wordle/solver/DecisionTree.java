@@ -0,0 +1,116 @@
+package aaron.wordle.solver;
+
+import aaron.wordle.game.PositionResponse;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+public class DecisionTree {
+
+    static final int MAGIC = 0x57445431;
+    static final int NO_CHILD = -1;
+
+    private static final int HEADER_BYTES = 5 * Integer.BYTES;
+
+    private final MappedByteBuffer buffer;
+    private final int wordLength;
+    private final int numWords;
+    private final int numNodes;
+    private final int numPatterns;
+    private final int nodesOffset;
+    private final int nodeBytes;
+
+    private DecisionTree(MappedByteBuffer buffer) {
+        this.buffer = buffer;
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("buffer does not contain a decision tree!");
+        }
+        this.wordLength = buffer.getInt(Integer.BYTES);
+        this.numWords = buffer.getInt(2 * Integer.BYTES);
+        this.numNodes = buffer.getInt(3 * Integer.BYTES);
+        this.numPatterns = buffer.getInt(4 * Integer.BYTES);
+        this.nodesOffset = HEADER_BYTES + numWords * wordLength;
+        this.nodeBytes = Integer.BYTES * (1 + numPatterns);
+        if (buffer.capacity() != nodesOffset + (long) numNodes * nodeBytes) {
+            throw new IllegalArgumentException("decision tree has " + buffer.capacity() + " bytes but its header describes " + (nodesOffset + (long) numNodes * nodeBytes) + "!");
+        }
+    }
+
+    public static DecisionTree open(Path pathToDecisionTree) {
+        try (FileChannel channel = FileChannel.open(pathToDecisionTree, StandardOpenOption.READ)) {
+            return new DecisionTree(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading file.", e);
+        }
+    }
+
+    public int getRoot() {
+        return 0;
+    }
+
+    public int getGuessWordId(int node) {
+        return buffer.getInt(nodesOffset + node * nodeBytes);
+    }
+
+    public String getGuess(int node) {
+        return getWord(getGuessWordId(node));
+    }
+
+    public int getChild(int node, int pattern) {
+        return buffer.getInt(nodesOffset + node * nodeBytes + Integer.BYTES * (1 + pattern));
+    }
+
+    public String getWord(int wordId) {
+        char[] word = new char[wordLength];
+        int wordOffset = HEADER_BYTES + wordId * wordLength;
+        for (int position = 0; position < wordLength; position++) {
+            word[position] = (char) ('a' + buffer.get(wordOffset + position));
+        }
+        return new String(word);
+    }
+
+    public int getWordLength() {
+        return wordLength;
+    }
+
+    public int getNumWords() {
+        return numWords;
+    }
+
+    public int getNumNodes() {
+        return numNodes;
+    }
+
+    public Guesser newGuesser() {
+        return new TreeGuesser();
+    }
+
+    private class TreeGuesser implements Guesser {
+
+        private int node = getRoot();
+
+        @Override
+        public String nextGuess() {
+            return node == NO_CHILD ? null : getGuess(node);
+        }
+
+        @Override
+        public void updateFromGuess(String guess, List<PositionResponse> response) {
+            if (node == NO_CHILD || !guess.equals(getGuess(node))) {
+                throw new IllegalArgumentException("guess = " + guess + " is not the decision tree's guess!");
+            }
+            node = getChild(node, FeedbackPatterns.fromPositionResponses(response));
+        }
+
+        @Override
+        public int getWordLength() {
+            return wordLength;
+        }
+
+    }
+
+}
@@ -0,0 +1,253 @@
+package aaron.wordle.solver;
+
+import aaron.wordle.game.WordleRunner;
+
+import java.io.*;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
+
+public class DecisionTreeBuilder {
+
+    private final DictionaryIndex dictionaryIndex;
+    private final int parallelism;
+    private final ScoringStrategy scoringStrategy;
+    private final LongAdder numCandidatesCollapsed = new LongAdder();
+    private int lookaheadDepth = 1;
+    private int lookaheadMaxWords;
+
+    public DecisionTreeBuilder(List<String> dictionary, int parallelism) {
+        this(dictionary, parallelism, ScoringStrategy.MIN_MAX);
+    }
+
+    public DecisionTreeBuilder(List<String> dictionary, int parallelism, ScoringStrategy scoringStrategy) {
+        this(WordleSolver.indexDictionary(dictionary), parallelism, scoringStrategy);
+    }
+
+    public DecisionTreeBuilder(DictionaryIndex dictionaryIndex, int parallelism, ScoringStrategy scoringStrategy) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism = " + parallelism + " must be at least 1!");
+        }
+        this.dictionaryIndex = dictionaryIndex;
+        this.parallelism = parallelism;
+        this.scoringStrategy = scoringStrategy;
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: DecisionTreeBuilder <pathToDictionary> <pathToDecisionTree> [parallelism] [scoringStrategy] [lookaheadDepth[:maxWords]]");
+            System.exit(1);
+        }
+        int parallelism = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        ScoringStrategy scoringStrategy = args.length > 3 ? WordleRunner.parseScoringStrategy(args[3]) : ScoringStrategy.MIN_MAX;
+        DecisionTreeBuilder builder = new DecisionTreeBuilder(WordleRunner.readDictionaryIndex(args[0]), parallelism, scoringStrategy);
+        if (args.length > 4) {
+            String[] lookahead = args[4].split(":");
+            builder.setLookahead(Integer.parseInt(lookahead[0]), lookahead.length > 1 ? Integer.parseInt(lookahead[1]) : 100);
+        }
+        long startTimeMillis = System.currentTimeMillis();
+        Node root = builder.build();
+        double buildSeconds = (System.currentTimeMillis() - startTimeMillis) / 1000.0;
+        builder.write(root, Paths.get(args[1]));
+        System.out.printf("words=%d nodes=%d depth=%d averageGuesses=%.4f candidatesCollapsed=%d buildSeconds=%.3f%n",
+                builder.dictionaryIndex.size(), root.numNodes, root.depth, (double) root.totalGuesses / builder.dictionaryIndex.size(),
+                builder.getNumCandidatesCollapsed(), buildSeconds);
+    }
+
+    public void setLookahead(int lookaheadDepth, int lookaheadMaxWords) {
+        if (lookaheadDepth < 1) {
+            throw new IllegalArgumentException("lookaheadDepth = " + lookaheadDepth + " must be at least 1!");
+        }
+        this.lookaheadDepth = lookaheadDepth;
+        this.lookaheadMaxWords = lookaheadMaxWords;
+    }
+
+    public long getNumCandidatesCollapsed() {
+        return numCandidatesCollapsed.sum();
+    }
+
+    public Node build() {
+        int[] allWordIds = new int[dictionaryIndex.size()];
+        for (int wordId = 0; wordId < allWordIds.length; wordId++) allWordIds[wordId] = wordId;
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.invoke(new SubtreeTask(allWordIds));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public void write(Node root, Path pathToDecisionTree) {
+        List<Node> nodesInOrder = new ArrayList<>();
+        Map<Node, Integer> nodeToIndex = new IdentityHashMap<>();
+        Deque<Node> toVisit = new ArrayDeque<>();
+        toVisit.add(root);
+        while (!toVisit.isEmpty()) {
+            Node node = toVisit.poll();
+            nodeToIndex.put(node, nodesInOrder.size());
+            nodesInOrder.add(node);
+            toVisit.addAll(Arrays.asList(node.children));
+        }
+
+        int wordLength = dictionaryIndex.getWordLength();
+        int numPatterns = FeedbackPatterns.numPatterns(wordLength);
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(pathToDecisionTree.toFile())))) {
+            output.writeInt(DecisionTree.MAGIC);
+            output.writeInt(wordLength);
+            output.writeInt(dictionaryIndex.size());
+            output.writeInt(nodesInOrder.size());
+            output.writeInt(numPatterns);
+            for (int wordId = 0; wordId < dictionaryIndex.size(); wordId++) {
+                output.write(dictionaryIndex.getEncodedWord(wordId));
+            }
+            int[] patternToChildIndex = new int[numPatterns];
+            for (Node node : nodesInOrder) {
+                Arrays.fill(patternToChildIndex, DecisionTree.NO_CHILD);
+                for (int childIndex = 0; childIndex < node.children.length; childIndex++) {
+                    patternToChildIndex[node.childPatterns[childIndex]] = nodeToIndex.get(node.children[childIndex]);
+                }
+                output.writeInt(node.guessWordId);
+                for (int childNodeIndex : patternToChildIndex) {
+                    output.writeInt(childNodeIndex);
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Error writing file.", e);
+        }
+    }
+
+    public DictionaryIndex getDictionaryIndex() {
+        return dictionaryIndex;
+    }
+
+    public static class Node {
+
+        final int guessWordId;
+        final int[] childPatterns;
+        final Node[] children;
+        final int numNodes;
+        final int depth;
+        final long totalGuesses;
+
+        Node(int guessWordId, int numWords, int[] childPatterns, Node[] children) {
+            this.guessWordId = guessWordId;
+            this.childPatterns = childPatterns;
+            this.children = children;
+            int numNodes = 1;
+            int maxChildDepth = 0;
+            long totalGuesses = numWords;
+            for (Node child : children) {
+                numNodes += child.numNodes;
+                maxChildDepth = Math.max(maxChildDepth, child.depth);
+                totalGuesses += child.totalGuesses;
+            }
+            this.numNodes = numNodes;
+            this.depth = maxChildDepth + 1;
+            this.totalGuesses = totalGuesses;
+        }
+
+        public int getGuessWordId() {
+            return guessWordId;
+        }
+
+        public int getNumNodes() {
+            return numNodes;
+        }
+
+        public int getDepth() {
+            return depth;
+        }
+
+        public long getTotalGuesses() {
+            return totalGuesses;
+        }
+
+    }
+
+    private Node buildWithLookahead(int[] wordIds, LookaheadSearch lookaheadSearch) {
+        int guessWordId = lookaheadSearch.bestGuessWordId(wordIds, lookaheadDepth);
+        List<Integer> childPatterns = new ArrayList<>();
+        List<int[]> childWordIds = new ArrayList<>();
+        splitByPattern(wordIds, guessWordId, childPatterns, childWordIds);
+        int[] childPatternArray = new int[childPatterns.size()];
+        Node[] children = new Node[childWordIds.size()];
+        for (int childIndex = 0; childIndex < children.length; childIndex++) {
+            childPatternArray[childIndex] = childPatterns.get(childIndex);
+            children[childIndex] = buildWithLookahead(childWordIds.get(childIndex), lookaheadSearch);
+        }
+        return new Node(guessWordId, wordIds.length, childPatternArray, children);
+    }
+
+    private void splitByPattern(int[] wordIds, int guessWordId, List<Integer> childPatterns, List<int[]> childWordIds) {
+        byte[] guess = dictionaryIndex.getEncodedWord(guessWordId);
+        long[] patternAndWordIndex = new long[wordIds.length];
+        for (int wordIndex = 0; wordIndex < wordIds.length; wordIndex++) {
+            patternAndWordIndex[wordIndex] = ((long) FeedbackPatterns.compute(guess, dictionaryIndex.getEncodedWord(wordIds[wordIndex])) << 32) | wordIndex;
+        }
+        Arrays.sort(patternAndWordIndex);
+
+        int allInPosition = FeedbackPatterns.allInPosition(guess.length);
+        int bucketStart = 0;
+        for (int bucketEnd = 1; bucketEnd <= patternAndWordIndex.length; bucketEnd++) {
+            int pattern = (int) (patternAndWordIndex[bucketStart] >>> 32);
+            if (bucketEnd < patternAndWordIndex.length && (int) (patternAndWordIndex[bucketEnd] >>> 32) == pattern) continue;
+            if (pattern != allInPosition) {
+                int[] bucketWordIds = new int[bucketEnd - bucketStart];
+                for (int bucketIndex = 0; bucketIndex < bucketWordIds.length; bucketIndex++) {
+                    bucketWordIds[bucketIndex] = wordIds[(int) patternAndWordIndex[bucketStart + bucketIndex]];
+                }
+                childPatterns.add(pattern);
+                childWordIds.add(bucketWordIds);
+            }
+            bucketStart = bucketEnd;
+        }
+    }
+
+    private class SubtreeTask extends RecursiveTask<Node> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] wordIds;
+
+        SubtreeTask(int[] wordIds) {
+            this.wordIds = wordIds;
+        }
+
+        @Override
+        protected Node compute() {
+            if (lookaheadDepth > 1 && wordIds.length <= lookaheadMaxWords) {
+                LookaheadSearch lookaheadSearch = new LookaheadSearch(dictionaryIndex, scoringStrategy, WordleSolver.DEFAULT_TRANSPOSITION_TABLE_SIZE);
+                Node node = buildWithLookahead(wordIds, lookaheadSearch);
+                numCandidatesCollapsed.add(lookaheadSearch.getNumCandidatesCollapsed());
+                return node;
+            }
+            byte[][] encodedWords = new byte[wordIds.length][];
+            for (int wordIndex = 0; wordIndex < wordIds.length; wordIndex++) {
+                encodedWords[wordIndex] = dictionaryIndex.getEncodedWord(wordIds[wordIndex]);
+            }
+            int guessWordId = wordIds[GuessScoringTask.scoreRange(encodedWords, scoringStrategy, 0, encodedWords.length).wordIndex];
+
+            List<Integer> childPatterns = new ArrayList<>();
+            List<int[]> childWordIds = new ArrayList<>();
+            splitByPattern(wordIds, guessWordId, childPatterns, childWordIds);
+            List<SubtreeTask> childTasks = new ArrayList<>();
+            for (int[] bucketWordIds : childWordIds) {
+                childTasks.add(new SubtreeTask(bucketWordIds));
+            }
+
+            invokeAll(childTasks);
+            int[] childPatternArray = new int[childPatterns.size()];
+            Node[] children = new Node[childTasks.size()];
+            for (int childIndex = 0; childIndex < children.length; childIndex++) {
+                childPatternArray[childIndex] = childPatterns.get(childIndex);
+                children[childIndex] = childTasks.get(childIndex).join();
+            }
+            return new Node(guessWordId, wordIds.length, childPatternArray, children);
+        }
+
+    }
+
+}
@@ -0,0 +1,214 @@
+package aaron.wordle.solver;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+public class DictionaryIndex {
+
+    private final int wordLength;
+    private final List<String> words;
+    private final byte[][] encodedWords;
+    private final PackedWords packedWords;
+    private final BitSet[][] letterToPositionToWordIds;
+    private final BitSet[][] letterToMinCountToWordIds;
+    private volatile byte[][] decodedWords;
+
+    public DictionaryIndex(List<String> words) {
+        this(new ArrayList<>(words), encode(words));
+    }
+
+    DictionaryIndex(byte[][] encodedWords) {
+        this(new AbstractList<String>() {
+            @Override
+            public String get(int wordId) {
+                return FeedbackPatterns.decode(encodedWords[wordId]);
+            }
+
+            @Override
+            public int size() {
+                return encodedWords.length;
+            }
+        }, encodedWords);
+    }
+
+    public DictionaryIndex(PackedWords packedWords) {
+        this.wordLength = packedWords.getWordLength();
+        this.words = new AbstractList<String>() {
+            @Override
+            public String get(int wordId) {
+                return packedWords.getWord(wordId);
+            }
+
+            @Override
+            public int size() {
+                return packedWords.size();
+            }
+        };
+        this.encodedWords = null;
+        this.packedWords = packedWords;
+        this.letterToPositionToWordIds = null;
+        this.letterToMinCountToWordIds = null;
+    }
+
+    private DictionaryIndex(List<String> words, byte[][] encodedWords) {
+        if (encodedWords.length == 0) {
+            throw new IllegalArgumentException("words must be non-empty!");
+        }
+        this.wordLength = encodedWords[0].length;
+        this.words = words;
+        this.encodedWords = encodedWords;
+        this.packedWords = null;
+        this.letterToPositionToWordIds = new BitSet[26][wordLength];
+        this.letterToMinCountToWordIds = new BitSet[26][wordLength + 1];
+        for (int letter = 0; letter < 26; letter++) {
+            for (int position = 0; position < wordLength; position++) {
+                letterToPositionToWordIds[letter][position] = new BitSet(encodedWords.length);
+            }
+            for (int minCount = 0; minCount <= wordLength; minCount++) {
+                letterToMinCountToWordIds[letter][minCount] = new BitSet(encodedWords.length);
+            }
+        }
+
+        for (int wordId = 0; wordId < encodedWords.length; wordId++) {
+            byte[] encodedWord = encodedWords[wordId];
+            if (encodedWord.length != wordLength) {
+                throw new IllegalArgumentException("words must be same length!");
+            }
+            byte[] counts = letterCounts(encodedWord);
+            for (int position = 0; position < wordLength; position++) {
+                letterToPositionToWordIds[encodedWord[position]][position].set(wordId);
+            }
+            for (int letter = 0; letter < 26; letter++) {
+                for (int minCount = 0; minCount <= counts[letter]; minCount++) {
+                    letterToMinCountToWordIds[letter][minCount].set(wordId);
+                }
+            }
+        }
+    }
+
+    private static byte[] letterCounts(byte[] encodedWord) {
+        byte[] counts = new byte[26];
+        for (byte letter : encodedWord) {
+            counts[letter]++;
+        }
+        return counts;
+    }
+
+    private static byte[][] encode(List<String> words) {
+        byte[][] encodedWords = new byte[words.size()][];
+        for (int wordId = 0; wordId < encodedWords.length; wordId++) {
+            encodedWords[wordId] = FeedbackPatterns.encode(words.get(wordId));
+        }
+        return encodedWords;
+    }
+
+    public BitSet filter(WordConstraints wordConstraints, BitSet candidateWordIds) {
+        if (wordConstraints.getWordLength() != wordLength) {
+            throw new IllegalArgumentException("wordConstraints should have length wordLength = " + wordLength + ".");
+        }
+        if (packedWords != null) {
+            return packedWords.filter(wordConstraints, candidateWordIds);
+        }
+        BitSet wordIds = (BitSet) candidateWordIds.clone();
+        for (int position = 0; position < wordLength && !wordIds.isEmpty(); position++) {
+            int disallowedLettersMask = ~wordConstraints.getAllowedLettersMask(position) & ((1 << 26) - 1);
+            for (; disallowedLettersMask != 0; disallowedLettersMask &= disallowedLettersMask - 1) {
+                wordIds.andNot(letterToPositionToWordIds[Integer.numberOfTrailingZeros(disallowedLettersMask)][position]);
+            }
+        }
+        for (int letter = 0; letter < 26 && !wordIds.isEmpty(); letter++) {
+            int minCount = wordConstraints.getMinCountInWord(letter);
+            int maxCount = wordConstraints.getMaxCountInWord(letter);
+            if (minCount > wordLength || maxCount < minCount) {
+                wordIds.clear();
+            } else if (minCount > 0) {
+                wordIds.and(letterToMinCountToWordIds[letter][minCount]);
+            }
+            if (maxCount < wordLength) {
+                wordIds.andNot(letterToMinCountToWordIds[letter][maxCount + 1]);
+            }
+        }
+        return wordIds;
+    }
+
+    public BitSet allWordIds() {
+        BitSet wordIds = new BitSet(words.size());
+        wordIds.set(0, words.size());
+        return wordIds;
+    }
+
+    public List<String> getWords() {
+        return Collections.unmodifiableList(words);
+    }
+
+    public List<String> getWords(BitSet wordIds) {
+        if (packedWords != null) {
+            int[] wordIdArray = wordIds.stream().toArray();
+            return new AbstractList<String>() {
+                @Override
+                public String get(int index) {
+                    return packedWords.getWord(wordIdArray[index]);
+                }
+
+                @Override
+                public int size() {
+                    return wordIdArray.length;
+                }
+            };
+        }
+        List<String> wordsWithIds = new ArrayList<>(wordIds.cardinality());
+        for (int wordId = wordIds.nextSetBit(0); wordId >= 0; wordId = wordIds.nextSetBit(wordId + 1)) {
+            wordsWithIds.add(words.get(wordId));
+        }
+        return wordsWithIds;
+    }
+
+    public byte[][] getEncodedWords(BitSet wordIds) {
+        byte[][] encodedWordsWithIds = new byte[wordIds.cardinality()][];
+        int index = 0;
+        for (int wordId = wordIds.nextSetBit(0); wordId >= 0; wordId = wordIds.nextSetBit(wordId + 1)) {
+            encodedWordsWithIds[index++] = getEncodedWord(wordId);
+        }
+        return encodedWordsWithIds;
+    }
+
+    public String getWord(int wordId) {
+        return words.get(wordId);
+    }
+
+    public byte[] getEncodedWord(int wordId) {
+        return encodedWords == null ? decodedWords()[wordId] : encodedWords[wordId];
+    }
+
+    private byte[][] decodedWords() {
+        byte[][] decoded = decodedWords;
+        if (decoded == null) {
+            decoded = new byte[packedWords.size()][];
+            for (int wordId = 0; wordId < decoded.length; wordId++) {
+                decoded[wordId] = packedWords.getEncodedWord(wordId);
+            }
+            decodedWords = decoded;
+        }
+        return decoded;
+    }
+
+    public byte[] getLetterCounts(int wordId) {
+        return letterCounts(getEncodedWord(wordId));
+    }
+
+    public boolean isPacked() {
+        return packedWords != null;
+    }
+
+    public int size() {
+        return words.size();
+    }
+
+    public int getWordLength() {
+        return wordLength;
+    }
+
+}
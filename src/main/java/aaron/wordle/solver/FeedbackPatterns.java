@@ -0,0 +1,115 @@
+package aaron.wordle.solver;
+
+import aaron.wordle.game.PositionResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class FeedbackPatterns {
+
+    public static final int MAX_WORD_LENGTH = 19;
+
+    private static final int BASE = PositionResponse.values().length;
+    private static final int NOT_IN_WORD_DIGIT = PositionResponse.NOT_IN_WORD.ordinal();
+    private static final int IN_WORD_NOT_POSITION_DIGIT = PositionResponse.IN_WORD_NOT_POSITION.ordinal();
+    private static final int IN_POSITION_DIGIT = PositionResponse.IN_POSITION.ordinal();
+
+    private FeedbackPatterns() {
+        throw new IllegalStateException();
+    }
+
+    public static int numPatterns(int wordLength) {
+        checkWordLength(wordLength);
+        int numPatterns = 1;
+        for (int position = 0; position < wordLength; position++) numPatterns *= BASE;
+        return numPatterns;
+    }
+
+    public static int allInPosition(int wordLength) {
+        return numPatterns(wordLength) - 1;
+    }
+
+    public static byte[] encode(String word) {
+        byte[] encoded = new byte[word.length()];
+        for (int position = 0; position < encoded.length; position++) {
+            char c = word.charAt(position);
+            if (c < 'a' || c > 'z') {
+                throw new IllegalArgumentException("word = " + word + " must match regex `[a-z]+`!");
+            }
+            encoded[position] = (byte) (c - 'a');
+        }
+        return encoded;
+    }
+
+    public static String decode(byte[] encoded) {
+        char[] word = new char[encoded.length];
+        for (int position = 0; position < encoded.length; position++) {
+            word[position] = (char) ('a' + encoded[position]);
+        }
+        return new String(word);
+    }
+
+    public static int compute(byte[] guess, byte[] answer) {
+        int wordLength = guess.length;
+        int usedAnswerPositions = 0;
+        int pattern = 0;
+        int place = 1;
+        for (int position = 0; position < wordLength; position++, place *= BASE) {
+            if (guess[position] == answer[position]) {
+                usedAnswerPositions |= 1 << position;
+                pattern += place * IN_POSITION_DIGIT;
+            }
+        }
+
+        int inPositionMask = usedAnswerPositions;
+        place = 1;
+        for (int guessPosition = 0; guessPosition < wordLength; guessPosition++, place *= BASE) {
+            if ((inPositionMask & (1 << guessPosition)) != 0) continue;
+            byte guessLetter = guess[guessPosition];
+            int digit = NOT_IN_WORD_DIGIT;
+            for (int answerPosition = 0; answerPosition < wordLength; answerPosition++) {
+                if ((usedAnswerPositions & (1 << answerPosition)) == 0 && answer[answerPosition] == guessLetter) {
+                    usedAnswerPositions |= 1 << answerPosition;
+                    digit = IN_WORD_NOT_POSITION_DIGIT;
+                    break;
+                }
+            }
+            pattern += place * digit;
+        }
+        return pattern;
+    }
+
+    public static int compute(String guess, String answer) {
+        if (guess.length() != answer.length()) {
+            throw new IllegalArgumentException("guess = " + guess + " and answer = " + answer + " do not match in length!");
+        }
+        checkWordLength(guess.length());
+        return compute(encode(guess), encode(answer));
+    }
+
+    public static int fromPositionResponses(List<PositionResponse> response) {
+        checkWordLength(response.size());
+        int pattern = 0;
+        for (int position = response.size() - 1; position >= 0; position--) {
+            pattern = pattern * BASE + response.get(position).ordinal();
+        }
+        return pattern;
+    }
+
+    public static List<PositionResponse> toPositionResponses(int pattern, int wordLength) {
+        checkWordLength(wordLength);
+        List<PositionResponse> response = new ArrayList<>(wordLength);
+        for (int position = 0; position < wordLength; position++) {
+            response.add(PositionResponse.values()[pattern % BASE]);
+            pattern /= BASE;
+        }
+        return response;
+    }
+
+    private static void checkWordLength(int wordLength) {
+        if (wordLength < 0 || wordLength > MAX_WORD_LENGTH) {
+            throw new IllegalArgumentException("wordLength = " + wordLength + " must be between 0 and " + MAX_WORD_LENGTH + "!");
+        }
+    }
+
+}
@@ -0,0 +1,161 @@
+package aaron.wordle.solver;
+
+import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class GuessCache {
+
+    private static final int MAGIC = 0x57474331;
+
+    private final Path cacheFile;
+    private Map<String, String> historyToGuess;
+
+    public GuessCache() {
+        this.cacheFile = null;
+        this.historyToGuess = new HashMap<>();
+    }
+
+    public GuessCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize = " + maxSize + " must be at least 1!");
+        }
+        this.cacheFile = null;
+        this.historyToGuess = new LinkedHashMap<String, String>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public GuessCache(Path cacheDirectory, List<String> dictionary) {
+        this.cacheFile = cacheDirectory.resolve(hashDictionary(dictionary) + ".cache");
+    }
+
+    public GuessCache(Path cacheDirectory, DictionaryIndex dictionaryIndex) {
+        this.cacheFile = cacheDirectory.resolve(hashDictionary(dictionaryIndex) + ".cache");
+    }
+
+    public static String hashDictionary(List<String> dictionary) {
+        MessageDigest digest = newDigest();
+        for (String word : dictionary) {
+            digest.update(word.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+        }
+        return toHex(digest.digest());
+    }
+
+    public static String hashDictionary(DictionaryIndex dictionaryIndex) {
+        MessageDigest digest = newDigest();
+        byte[] line = new byte[dictionaryIndex.getWordLength() + 1];
+        line[line.length - 1] = '\n';
+        for (int wordId = 0; wordId < dictionaryIndex.size(); wordId++) {
+            byte[] encodedWord = dictionaryIndex.getEncodedWord(wordId);
+            for (int position = 0; position < encodedWord.length; position++) {
+                line[position] = (byte) ('a' + encodedWord[position]);
+            }
+            digest.update(line);
+        }
+        return toHex(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available!", e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hash = new StringBuilder();
+        for (byte b : bytes) {
+            hash.append(String.format("%02x", b));
+        }
+        return hash.toString();
+    }
+
+    public synchronized Optional<String> get(String history) {
+        return Optional.ofNullable(load().get(history));
+    }
+
+    public synchronized void put(String history, String guess) {
+        if (guess.equals(load().get(history))) {
+            return;
+        }
+        historyToGuess.put(history, guess);
+        if (cacheFile == null) {
+            return;
+        }
+        try {
+            boolean isNewFile = !Files.exists(cacheFile) || Files.size(cacheFile) == 0;
+            if (isNewFile && cacheFile.getParent() != null) {
+                Files.createDirectories(cacheFile.getParent());
+            }
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(cacheFile.toFile(), true)))) {
+                if (isNewFile) {
+                    output.writeInt(MAGIC);
+                }
+                output.writeUTF(history);
+                output.writeUTF(guess);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Error writing file.", e);
+        }
+    }
+
+    public synchronized int size() {
+        return load().size();
+    }
+
+    public Path getCacheFile() {
+        return cacheFile;
+    }
+
+    private Map<String, String> load() {
+        if (historyToGuess != null) {
+            return historyToGuess;
+        }
+        historyToGuess = new HashMap<>();
+        if (!Files.exists(cacheFile)) {
+            return historyToGuess;
+        }
+        try {
+            byte[] contents = Files.readAllBytes(cacheFile);
+            ByteArrayInputStream bytes = new ByteArrayInputStream(contents);
+            DataInputStream input = new DataInputStream(bytes);
+            int completeLength = 0;
+            try {
+                if (input.readInt() != MAGIC) {
+                    throw new IllegalStateException(cacheFile + " is not a guess cache file!");
+                }
+                completeLength = contents.length - bytes.available();
+                while (bytes.available() > 0) {
+                    String history = input.readUTF();
+                    String guess = input.readUTF();
+                    historyToGuess.put(history, guess);
+                    completeLength = contents.length - bytes.available();
+                }
+            } catch (EOFException e) {
+                try (FileChannel channel = FileChannel.open(cacheFile, StandardOpenOption.WRITE)) {
+                    channel.truncate(completeLength);
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading file.", e);
+        }
+        return historyToGuess;
+    }
+
+}
@@ -0,0 +1,85 @@
+package aaron.wordle.solver;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+public class GuessPool {
+
+    public static final int DEFAULT_MAX_CANDIDATES = 1024;
+
+    private final DictionaryIndex allowedGuesses;
+    private final boolean hardMode;
+    private final int maxCandidates;
+
+    public GuessPool(List<String> allowedGuesses, boolean hardMode) {
+        this(WordleSolver.indexDictionary(allowedGuesses), hardMode, DEFAULT_MAX_CANDIDATES);
+    }
+
+    public GuessPool(DictionaryIndex allowedGuesses, boolean hardMode, int maxCandidates) {
+        if (maxCandidates < 0) {
+            throw new IllegalArgumentException("maxCandidates = " + maxCandidates + " must be non-negative!");
+        }
+        this.allowedGuesses = allowedGuesses;
+        this.hardMode = hardMode;
+        this.maxCandidates = maxCandidates;
+    }
+
+    BitSet filter(WordConstraints wordConstraints, BitSet guessIds) {
+        return hardMode ? allowedGuesses.filter(wordConstraints, guessIds) : guessIds;
+    }
+
+    int[] selectCandidates(BitSet guessIds, byte[][] encodedAnswers) {
+        int wordLength = allowedGuesses.getWordLength();
+        int[] letterToNumAnswersContaining = new int[26];
+        int[][] positionToLetterToNumAnswers = new int[wordLength][26];
+        for (byte[] encodedAnswer : encodedAnswers) {
+            int lettersMask = 0;
+            for (int position = 0; position < wordLength; position++) {
+                positionToLetterToNumAnswers[position][encodedAnswer[position]]++;
+                lettersMask |= 1 << encodedAnswer[position];
+            }
+            for (; lettersMask != 0; lettersMask &= lettersMask - 1) {
+                letterToNumAnswersContaining[Integer.numberOfTrailingZeros(lettersMask)]++;
+            }
+        }
+        long[] negatedSplitAndGuessId = new long[guessIds.cardinality()];
+        int numGuesses = 0;
+        for (int guessId = guessIds.nextSetBit(0); guessId >= 0; guessId = guessIds.nextSetBit(guessId + 1)) {
+            byte[] encodedGuess = allowedGuesses.getEncodedWord(guessId);
+            long split = 0;
+            int lettersMask = 0;
+            for (int position = 0; position < wordLength; position++) {
+                split += splitSize(positionToLetterToNumAnswers[position][encodedGuess[position]], encodedAnswers.length);
+                lettersMask |= 1 << encodedGuess[position];
+            }
+            for (; lettersMask != 0; lettersMask &= lettersMask - 1) {
+                split += splitSize(letterToNumAnswersContaining[Integer.numberOfTrailingZeros(lettersMask)], encodedAnswers.length);
+            }
+            negatedSplitAndGuessId[numGuesses++] = (-split << 32) | guessId;
+        }
+        Arrays.sort(negatedSplitAndGuessId);
+        int[] candidateGuessIds = new int[Math.min(numGuesses, maxCandidates)];
+        for (int candidate = 0; candidate < candidateGuessIds.length; candidate++) {
+            candidateGuessIds[candidate] = (int) negatedSplitAndGuessId[candidate];
+        }
+        return candidateGuessIds;
+    }
+
+    private static int splitSize(int numAnswersMatching, int numAnswers) {
+        return Math.min(numAnswersMatching, numAnswers - numAnswersMatching);
+    }
+
+    public DictionaryIndex getAllowedGuesses() {
+        return allowedGuesses;
+    }
+
+    public boolean isHardMode() {
+        return hardMode;
+    }
+
+    public int getMaxCandidates() {
+        return maxCandidates;
+    }
+
+}
@@ -0,0 +1,32 @@
+package aaron.wordle.solver;
+
+public class GuessResult {
+
+    private final String guess;
+    private final boolean complete;
+    private final SearchStatistics searchStatistics;
+
+    GuessResult(String guess, boolean complete, SearchStatistics searchStatistics) {
+        this.guess = guess;
+        this.complete = complete;
+        this.searchStatistics = searchStatistics;
+    }
+
+    public String getGuess() {
+        return guess;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public SearchStatistics getSearchStatistics() {
+        return searchStatistics;
+    }
+
+    @Override
+    public String toString() {
+        return "GuessResult{guess=" + guess + ", complete=" + complete + ", " + searchStatistics + "}";
+    }
+
+}
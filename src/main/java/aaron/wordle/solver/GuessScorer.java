@@ -0,0 +1,215 @@
+package aaron.wordle.solver;
+
+import java.util.Arrays;
+
+public class GuessScorer {
+
+    static final int MAX_NUM_COUNTED_PATTERNS = 59049;
+    private static final int PATTERN_BLOCK_SIZE = 256;
+
+    private final int[] patternToCount;
+    private int[] patterns;
+    private int numAnswers;
+    private int numAnswersScored;
+    private int numPatternsReused;
+    private int maxBucketSize;
+    private int numBuckets;
+    private long sumOfSquaredBucketSizes;
+    private double sumOfBucketSizeLogBucketSizes;
+
+    public GuessScorer(int wordLength) {
+        int numPatterns = FeedbackPatterns.numPatterns(wordLength);
+        this.patternToCount = numPatterns <= MAX_NUM_COUNTED_PATTERNS ? new int[numPatterns] : null;
+        this.patterns = new int[0];
+    }
+
+    public int maxBucketSize(byte[] guess, byte[][] answers) {
+        return maxBucketSize(guess, answers, answers.length);
+    }
+
+    public int maxBucketSize(byte[] guess, byte[][] answers, int numAnswers) {
+        score(guess, answers, numAnswers);
+        return maxBucketSize;
+    }
+
+    public void score(byte[] guess, byte[][] answers, int numAnswers) {
+        scoreWithinBound(guess, answers, numAnswers, Integer.MAX_VALUE);
+    }
+
+    public boolean scoreWithinBound(byte[] guess, byte[][] answers, int numAnswers, int maxBucketSizeBound) {
+        return scoreWithinBound(guess, answers, numAnswers, null, null, 0, maxBucketSizeBound);
+    }
+
+    public boolean scoreWithinBound(byte[] guess, byte[][] answers, int numAnswers, int[] knownPatterns, int[] knownPatternIndices,
+                                    int numKnownPatterns, int maxBucketSizeBound) {
+        reset(numAnswers);
+        if (patternToCount == null) {
+            for (int answerIndex = 0; answerIndex < numAnswers; answerIndex++) {
+                patterns[answerIndex] = answerIndex < numKnownPatterns ? knownPatterns[knownPatternIndices[answerIndex]]
+                        : FeedbackPatterns.compute(guess, answers[answerIndex]);
+            }
+            numAnswersScored = numAnswers;
+            numPatternsReused = Math.min(numKnownPatterns, numAnswers);
+            scoreBySorting();
+            return maxBucketSize < maxBucketSizeBound;
+        }
+        boolean withinBound = scoreByCounting(guess, answers, knownPatterns, knownPatternIndices, numKnownPatterns, maxBucketSizeBound);
+        numPatternsReused = Math.min(numKnownPatterns, numAnswersScored);
+        return withinBound;
+    }
+
+    public boolean scoreWithinBound(byte[] guess, PatternComputer patternComputer, int maxBucketSizeBound) {
+        reset(patternComputer.getNumAnswers());
+        numPatternsReused = 0;
+        if (patternToCount == null) {
+            patternComputer.compute(guess, patterns);
+            numAnswersScored = numAnswers;
+            scoreBySorting();
+            return maxBucketSize < maxBucketSizeBound;
+        }
+        for (int startAnswer = 0; startAnswer < numAnswers; startAnswer += PATTERN_BLOCK_SIZE) {
+            int endAnswer = Math.min(startAnswer + PATTERN_BLOCK_SIZE, numAnswers);
+            patternComputer.compute(guess, patterns, startAnswer, endAnswer);
+            for (int answerIndex = startAnswer; answerIndex < endAnswer; answerIndex++) {
+                int bucketSize = ++patternToCount[patterns[answerIndex]];
+                if (bucketSize > maxBucketSize) {
+                    maxBucketSize = bucketSize;
+                    if (bucketSize >= maxBucketSizeBound) {
+                        for (int countedIndex = 0; countedIndex <= answerIndex; countedIndex++) {
+                            patternToCount[patterns[countedIndex]] = 0;
+                        }
+                        numAnswersScored = endAnswer;
+                        return false;
+                    }
+                }
+            }
+        }
+        numAnswersScored = numAnswers;
+        addCountedBuckets();
+        return true;
+    }
+
+    public void scorePatterns(int[] guessPatterns, int[] answerIndices, int numAnswers) {
+        reset(numAnswers);
+        for (int answerIndex = 0; answerIndex < numAnswers; answerIndex++) {
+            patterns[answerIndex] = guessPatterns[answerIndices[answerIndex]];
+        }
+        numAnswersScored = numAnswers;
+        numPatternsReused = numAnswers;
+        if (patternToCount == null) {
+            scoreBySorting();
+            return;
+        }
+        for (int answerIndex = 0; answerIndex < numAnswers; answerIndex++) {
+            maxBucketSize = Math.max(maxBucketSize, ++patternToCount[patterns[answerIndex]]);
+        }
+        addCountedBuckets();
+    }
+
+    private void reset(int numAnswers) {
+        if (patterns.length < numAnswers) {
+            patterns = new int[numAnswers];
+        }
+        this.numAnswers = numAnswers;
+        maxBucketSize = 0;
+        numBuckets = 0;
+        sumOfSquaredBucketSizes = 0;
+        sumOfBucketSizeLogBucketSizes = 0;
+    }
+
+    private boolean scoreByCounting(byte[] guess, byte[][] answers, int[] knownPatterns, int[] knownPatternIndices, int numKnownPatterns,
+                                    int maxBucketSizeBound) {
+        int numKnownAnswers = Math.min(numKnownPatterns, numAnswers);
+        for (int answerIndex = 0; answerIndex < numKnownAnswers; answerIndex++) {
+            if (!countWithinBound(answerIndex, knownPatterns[knownPatternIndices[answerIndex]], maxBucketSizeBound)) {
+                return false;
+            }
+        }
+        for (int answerIndex = numKnownAnswers; answerIndex < numAnswers; answerIndex++) {
+            if (!countWithinBound(answerIndex, FeedbackPatterns.compute(guess, answers[answerIndex]), maxBucketSizeBound)) {
+                return false;
+            }
+        }
+        numAnswersScored = numAnswers;
+        addCountedBuckets();
+        return true;
+    }
+
+    private boolean countWithinBound(int answerIndex, int pattern, int maxBucketSizeBound) {
+        patterns[answerIndex] = pattern;
+        int bucketSize = ++patternToCount[pattern];
+        if (bucketSize > maxBucketSize) {
+            maxBucketSize = bucketSize;
+            if (bucketSize >= maxBucketSizeBound) {
+                for (int countedIndex = 0; countedIndex <= answerIndex; countedIndex++) {
+                    patternToCount[patterns[countedIndex]] = 0;
+                }
+                numAnswersScored = answerIndex + 1;
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void addCountedBuckets() {
+        for (int answerIndex = 0; answerIndex < numAnswers; answerIndex++) {
+            int bucketSize = patternToCount[patterns[answerIndex]];
+            if (bucketSize > 0) {
+                addBucket(bucketSize);
+                patternToCount[patterns[answerIndex]] = 0;
+            }
+        }
+    }
+
+    private void scoreBySorting() {
+        Arrays.sort(patterns, 0, numAnswers);
+        int bucketStart = 0;
+        for (int answerIndex = 1; answerIndex <= numAnswers; answerIndex++) {
+            if (answerIndex == numAnswers || patterns[answerIndex] != patterns[bucketStart]) {
+                int bucketSize = answerIndex - bucketStart;
+                maxBucketSize = Math.max(maxBucketSize, bucketSize);
+                addBucket(bucketSize);
+                bucketStart = answerIndex;
+            }
+        }
+    }
+
+    private void addBucket(int bucketSize) {
+        numBuckets++;
+        sumOfSquaredBucketSizes += (long) bucketSize * bucketSize;
+        sumOfBucketSizeLogBucketSizes += bucketSize * Math.log(bucketSize);
+    }
+
+    public int getNumAnswers() {
+        return numAnswers;
+    }
+
+    public int getNumAnswersScored() {
+        return numAnswersScored;
+    }
+
+    public int getNumPatternsReused() {
+        return numPatternsReused;
+    }
+
+    int[] getPatterns() {
+        return patterns;
+    }
+
+    public int getMaxBucketSize() {
+        return maxBucketSize;
+    }
+
+    public int getNumBuckets() {
+        return numBuckets;
+    }
+
+    public long getSumOfSquaredBucketSizes() {
+        return sumOfSquaredBucketSizes;
+    }
+
+    public double getSumOfBucketSizeLogBucketSizes() {
+        return sumOfBucketSizeLogBucketSizes;
+    }
+
+}
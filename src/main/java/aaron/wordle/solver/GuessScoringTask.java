@@ -0,0 +1,146 @@
+package aaron.wordle.solver;
+
+import java.util.Arrays;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BooleanSupplier;
+
+class GuessScoringTask extends RecursiveTask<ScoredGuess> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int MAX_GUESSES_PER_LEAF = 32;
+    private static final int MIN_NUM_VECTORIZED_ANSWERS = 64;
+
+    private final byte[][] encodedGuesses;
+    private final byte[][] encodedRemainingWords;
+    private final int[] candidateOrder;
+    private final ScoringStrategy scoringStrategy;
+    private final boolean bounded;
+    private final BooleanSupplier stopRequested;
+    private final SearchStatistics searchStatistics;
+    private final PatternTable patternTable;
+    private final PatternComputer patternComputer;
+    private final int startCandidate;
+    private final int endCandidate;
+
+    GuessScoringTask(byte[][] encodedGuesses, byte[][] encodedRemainingWords, int[] candidateOrder, ScoringStrategy scoringStrategy, boolean bounded,
+                     BooleanSupplier stopRequested, SearchStatistics searchStatistics, PatternTable patternTable, PatternComputer patternComputer,
+                     int startCandidate, int endCandidate) {
+        this.encodedGuesses = encodedGuesses;
+        this.encodedRemainingWords = encodedRemainingWords;
+        this.candidateOrder = candidateOrder;
+        this.scoringStrategy = scoringStrategy;
+        this.bounded = bounded;
+        this.stopRequested = stopRequested;
+        this.searchStatistics = searchStatistics;
+        this.patternTable = patternTable;
+        this.patternComputer = patternComputer;
+        this.startCandidate = startCandidate;
+        this.endCandidate = endCandidate;
+    }
+
+    @Override
+    protected ScoredGuess compute() {
+        if (endCandidate - startCandidate <= MAX_GUESSES_PER_LEAF) {
+            return scoreCandidates(encodedGuesses, encodedRemainingWords, candidateOrder, startCandidate, endCandidate, scoringStrategy, bounded, ScoredGuess.NONE, stopRequested, searchStatistics, patternTable, patternComputer);
+        }
+        int middleCandidate = (startCandidate + endCandidate) >>> 1;
+        GuessScoringTask lowerHalf = new GuessScoringTask(encodedGuesses, encodedRemainingWords, candidateOrder, scoringStrategy, bounded, stopRequested, searchStatistics, patternTable, patternComputer, startCandidate, middleCandidate);
+        GuessScoringTask upperHalf = new GuessScoringTask(encodedGuesses, encodedRemainingWords, candidateOrder, scoringStrategy, bounded, stopRequested, searchStatistics, patternTable, patternComputer, middleCandidate, endCandidate);
+        upperHalf.fork();
+        ScoredGuess lowerBest = lowerHalf.compute();
+        ScoredGuess upperBest = upperHalf.join();
+        return ScoredGuess.better(lowerBest, upperBest);
+    }
+
+    static ScoredGuess scoreRange(byte[][] encodedRemainingWords, ScoringStrategy scoringStrategy, int startWordIndex, int endWordIndex) {
+        return scoreCandidates(encodedRemainingWords, encodedRemainingWords, null, startWordIndex, endWordIndex, scoringStrategy, true, ScoredGuess.NONE, () -> false, null, null,
+                newPatternComputer(encodedRemainingWords));
+    }
+
+    static ScoredGuess scoreCandidates(byte[][] encodedGuesses, byte[][] encodedRemainingWords, int[] candidateOrder, int startCandidate, int endCandidate,
+                                      ScoringStrategy scoringStrategy, boolean bounded, ScoredGuess best,
+                                      BooleanSupplier stopRequested, SearchStatistics searchStatistics, PatternTable patternTable,
+                                      PatternComputer patternComputer) {
+        if (startCandidate >= endCandidate) {
+            return best;
+        }
+        GuessScorer guessScorer = new GuessScorer(encodedRemainingWords[0].length);
+        long numCandidates = 0;
+        long numPruned = 0;
+        long numPatternsComputed = 0;
+        for (int candidate = startCandidate; candidate < endCandidate && !stopRequested.getAsBoolean(); candidate++) {
+            numCandidates++;
+            int wordIndex = candidateOrder == null ? candidate : candidateOrder[candidate];
+            int maxBucketSizeBound = bounded ? scoringStrategy.maxBucketSizeBound(best, wordIndex) : Integer.MAX_VALUE;
+            boolean withinBound;
+            if (patternTable != null) {
+                withinBound = guessScorer.scoreWithinBound(encodedGuesses[wordIndex], encodedRemainingWords, encodedRemainingWords.length,
+                        patternTable.getKnownPatterns(wordIndex), patternTable.getKnownPatternIndices(), patternTable.getNumKnownPatterns(wordIndex), maxBucketSizeBound);
+                patternTable.setRow(wordIndex, guessScorer.getPatterns(), guessScorer.getNumAnswersScored());
+            } else if (patternComputer != null) {
+                withinBound = guessScorer.scoreWithinBound(encodedGuesses[wordIndex], patternComputer, maxBucketSizeBound);
+            } else {
+                withinBound = guessScorer.scoreWithinBound(encodedGuesses[wordIndex], encodedRemainingWords, encodedRemainingWords.length, maxBucketSizeBound);
+            }
+            numPatternsComputed += guessScorer.getNumAnswersScored() - guessScorer.getNumPatternsReused();
+            if (!withinBound) {
+                numPruned++;
+                continue;
+            }
+            ScoredGuess scoredGuess = new ScoredGuess(wordIndex, scoringStrategy.score(guessScorer));
+            if (guessScorer.getMaxBucketSize() > 0 && scoredGuess.isBetterThan(best)) {
+                best = scoredGuess;
+            }
+        }
+        if (searchStatistics != null) {
+            searchStatistics.addCandidates(numCandidates - numPruned, numPruned, numPatternsComputed, numCandidates * encodedRemainingWords.length);
+        }
+        return best;
+    }
+
+    static PatternComputer newPatternComputer(byte[][] encodedRemainingWords) {
+        if (encodedRemainingWords.length < MIN_NUM_VECTORIZED_ANSWERS) {
+            return null;
+        }
+        PatternComputer patternComputer = PatternComputer.forAnswers(encodedRemainingWords, encodedRemainingWords.length);
+        return patternComputer.getBackend().equals(PatternComputer.VECTOR) ? patternComputer : null;
+    }
+
+    static int[] orderByLetterCoverage(byte[][] encodedRemainingWords) {
+        return orderByLetterCoverage(encodedRemainingWords, encodedRemainingWords);
+    }
+
+    static int[] orderByLetterCoverage(byte[][] encodedGuesses, byte[][] encodedRemainingWords) {
+        int[] letterToNumWordsContaining = new int[26];
+        for (byte[] encodedWord : encodedRemainingWords) {
+            int lettersMask = lettersMask(encodedWord);
+            for (; lettersMask != 0; lettersMask &= lettersMask - 1) {
+                letterToNumWordsContaining[Integer.numberOfTrailingZeros(lettersMask)]++;
+            }
+        }
+        long[] negatedCoverageAndWordIndex = new long[encodedGuesses.length];
+        for (int wordIndex = 0; wordIndex < encodedGuesses.length; wordIndex++) {
+            long coverage = 0;
+            for (int lettersMask = lettersMask(encodedGuesses[wordIndex]); lettersMask != 0; lettersMask &= lettersMask - 1) {
+                coverage += letterToNumWordsContaining[Integer.numberOfTrailingZeros(lettersMask)];
+            }
+            negatedCoverageAndWordIndex[wordIndex] = (-coverage << 32) | wordIndex;
+        }
+        Arrays.sort(negatedCoverageAndWordIndex);
+        int[] candidateOrder = new int[encodedGuesses.length];
+        for (int candidate = 0; candidate < candidateOrder.length; candidate++) {
+            candidateOrder[candidate] = (int) negatedCoverageAndWordIndex[candidate];
+        }
+        return candidateOrder;
+    }
+
+    private static int lettersMask(byte[] encodedWord) {
+        int lettersMask = 0;
+        for (byte letter : encodedWord) {
+            lettersMask |= 1 << letter;
+        }
+        return lettersMask;
+    }
+
+}
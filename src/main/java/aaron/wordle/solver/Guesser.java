@@ -0,0 +1,15 @@
+package aaron.wordle.solver;
+
+import aaron.wordle.game.PositionResponse;
+
+import java.util.List;
+
+public interface Guesser {
+
+    String nextGuess();
+
+    void updateFromGuess(String guess, List<PositionResponse> response);
+
+    int getWordLength();
+
+}
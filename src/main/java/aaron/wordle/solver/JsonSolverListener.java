@@ -0,0 +1,72 @@
+package aaron.wordle.solver;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class JsonSolverListener implements SolverListener, Closeable {
+
+    private final Writer writer;
+
+    public JsonSolverListener(Path path) {
+        try {
+            this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new RuntimeException("Error opening file.", e);
+        }
+    }
+
+    public JsonSolverListener(Writer writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void onNextGuess(GuessResult guessResult, int numRemainingWords, long elapsedNanos) {
+        SearchStatistics searchStatistics = guessResult.getSearchStatistics();
+        write("{\"event\":\"nextGuess\",\"guess\":" + quote(guessResult.getGuess())
+                + ",\"complete\":" + guessResult.isComplete()
+                + ",\"remainingWords\":" + numRemainingWords
+                + ",\"candidatesScored\":" + searchStatistics.getNumCandidatesScored()
+                + ",\"candidatesPruned\":" + searchStatistics.getNumCandidatesPruned()
+                + ",\"candidatesCollapsed\":" + searchStatistics.getNumCandidatesCollapsed()
+                + ",\"patternsComputed\":" + searchStatistics.getNumPatternsComputed()
+                + ",\"patternsPossible\":" + searchStatistics.getNumPatternsPossible()
+                + ",\"elapsedNanos\":" + elapsedNanos + "}");
+    }
+
+    @Override
+    public void onUpdateFromGuess(String guess, int numWordsChecked, int numRemainingWords, long elapsedNanos) {
+        write("{\"event\":\"updateFromGuess\",\"guess\":" + quote(guess)
+                + ",\"wordsChecked\":" + numWordsChecked
+                + ",\"remainingWords\":" + numRemainingWords
+                + ",\"elapsedNanos\":" + elapsedNanos + "}");
+    }
+
+    private synchronized void write(String line) {
+        try {
+            writer.write(line);
+            writer.write('\n');
+            writer.flush();
+        } catch (IOException e) {
+            throw new RuntimeException("Error writing file.", e);
+        }
+    }
+
+    private static String quote(String word) {
+        return word == null ? "null" : "\"" + word + "\"";
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            throw new RuntimeException("Error closing file.", e);
+        }
+    }
+
+}
@@ -0,0 +1,44 @@
+package aaron.wordle.solver;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public class LoggingSolverListener implements SolverListener {
+
+    private final Logger logger;
+
+    public LoggingSolverListener() {
+        this(Logger.getLogger(WordleSolver.class.getName()));
+    }
+
+    public LoggingSolverListener(Logger logger) {
+        this.logger = logger;
+    }
+
+    @Override
+    public void onSearchProgress(int numCandidatesProcessed, int numCandidates, long elapsedNanos) {
+        if (logger.isLoggable(Level.FINE)) {
+            double remainingSeconds = elapsedNanos / 1e9 / numCandidatesProcessed * (numCandidates - numCandidatesProcessed);
+            logger.fine(String.format("candidatesProcessed=%d/%d estimatedRemainingSeconds=%.3f", numCandidatesProcessed, numCandidates, remainingSeconds));
+        }
+    }
+
+    @Override
+    public void onNextGuess(GuessResult guessResult, int numRemainingWords, long elapsedNanos) {
+        if (logger.isLoggable(Level.INFO)) {
+            SearchStatistics searchStatistics = guessResult.getSearchStatistics();
+            logger.info(String.format("nextGuess guess=%s complete=%b remainingWords=%d candidatesScored=%d candidatesPruned=%d prunedWorkFraction=%.4f millis=%.3f",
+                    guessResult.getGuess(), guessResult.isComplete(), numRemainingWords, searchStatistics.getNumCandidatesScored(),
+                    searchStatistics.getNumCandidatesPruned(), searchStatistics.getPrunedWorkFraction(), elapsedNanos / 1e6));
+        }
+    }
+
+    @Override
+    public void onUpdateFromGuess(String guess, int numWordsChecked, int numRemainingWords, long elapsedNanos) {
+        if (logger.isLoggable(Level.INFO)) {
+            logger.info(String.format("updateFromGuess guess=%s wordsChecked=%d remainingWords=%d millis=%.3f",
+                    guess, numWordsChecked, numRemainingWords, elapsedNanos / 1e6));
+        }
+    }
+
+}
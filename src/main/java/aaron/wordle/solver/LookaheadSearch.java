@@ -0,0 +1,275 @@
+package aaron.wordle.solver;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+class LookaheadSearch {
+
+    private final DictionaryIndex dictionaryIndex;
+    private final boolean worstCase;
+    private final Map<WordIds, Entry> transpositionTable;
+    private long numTranspositionHits;
+    private long numTranspositionMisses;
+    private long numPatternsComputed;
+    private long numCandidatesCollapsed;
+
+    LookaheadSearch(DictionaryIndex dictionaryIndex, ScoringStrategy scoringStrategy, int maxTranspositionTableSize) {
+        if (maxTranspositionTableSize < 0) {
+            throw new IllegalArgumentException("maxTranspositionTableSize = " + maxTranspositionTableSize + " must be non-negative!");
+        }
+        this.dictionaryIndex = dictionaryIndex;
+        this.worstCase = scoringStrategy == ScoringStrategy.MIN_MAX;
+        this.transpositionTable = new LinkedHashMap<WordIds, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<WordIds, Entry> eldest) {
+                return size() > maxTranspositionTableSize;
+            }
+        };
+    }
+
+    ScoredGuess search(int[] wordIds, int[] candidateOrder, int depth, BooleanSupplier stopRequested, SearchStatistics searchStatistics) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("depth = " + depth + " must be at least 1!");
+        }
+        ScoredGuess best = ScoredGuess.NONE;
+        Map<WordIds, Evaluation> signatureToEvaluation = new HashMap<>();
+        long startNumPatternsComputed = numPatternsComputed;
+        long startNumCandidatesCollapsed = numCandidatesCollapsed;
+        int numCandidates = 0;
+        for (int candidate = 0; candidate < candidateOrder.length && !stopRequested.getAsBoolean(); candidate++) {
+            numCandidates++;
+            int wordIndex = candidateOrder[candidate];
+            int cutoff = best.wordIndex < 0 ? Integer.MAX_VALUE : (int) best.score + (wordIndex < best.wordIndex ? 1 : 0);
+            Evaluation evaluation = evaluateGuess(wordIds, wordIndex, depth, cutoff, signatureToEvaluation);
+            ScoredGuess scoredGuess = new ScoredGuess(wordIndex, evaluation.cost);
+            if (evaluation.cost < cutoff && scoredGuess.isBetterThan(best)) {
+                best = scoredGuess;
+            }
+        }
+        searchStatistics.addCandidates(numCandidates, 0, numPatternsComputed - startNumPatternsComputed, (long) numCandidates * wordIds.length);
+        searchStatistics.addCandidatesCollapsed(numCandidatesCollapsed - startNumCandidatesCollapsed);
+        return best;
+    }
+
+    int cost(int[] wordIds, int depth) {
+        return lookup(wordIds, depth).cost;
+    }
+
+    int bestGuessWordId(int[] wordIds, int depth) {
+        return wordIds[lookup(wordIds, depth).bestWordIndex];
+    }
+
+    private Entry lookup(int[] wordIds, int depth) {
+        if (wordIds.length <= 2 || depth == 0) {
+            return new Entry(leafCost(wordIds.length), 0, depth, wordIds.length <= 2);
+        }
+        WordIds key = new WordIds(wordIds);
+        Entry cachedEntry = transpositionTable.get(key);
+        if (cachedEntry != null && (cachedEntry.exact || cachedEntry.depth == depth)) {
+            numTranspositionHits++;
+            return cachedEntry;
+        }
+        numTranspositionMisses++;
+        Map<WordIds, Evaluation> signatureToEvaluation = new HashMap<>();
+        Evaluation best = null;
+        int bestWordIndex = 0;
+        for (int wordIndex = 0; wordIndex < wordIds.length; wordIndex++) {
+            Evaluation evaluation = evaluateGuess(wordIds, wordIndex, depth, best == null ? Integer.MAX_VALUE : best.cost, signatureToEvaluation);
+            if (best == null || evaluation.cost < best.cost) {
+                best = evaluation;
+                bestWordIndex = wordIndex;
+            }
+        }
+        Entry entry = new Entry(best.cost, bestWordIndex, depth, best.exact);
+        transpositionTable.put(key, entry);
+        return entry;
+    }
+
+    private Evaluation evaluateGuess(int[] wordIds, int guessIndex, int depth, int cutoff, Map<WordIds, Evaluation> signatureToEvaluation) {
+        Partition partition = new Partition(wordIds, guessIndex);
+        Evaluation previousEvaluation = signatureToEvaluation.get(partition.signature);
+        if (previousEvaluation != null && (previousEvaluation.complete || previousEvaluation.cost >= cutoff)) {
+            numCandidatesCollapsed++;
+            return previousEvaluation;
+        }
+        Evaluation evaluation = evaluate(partition, depth, cutoff);
+        signatureToEvaluation.put(partition.signature, evaluation);
+        return evaluation;
+    }
+
+    private Evaluation evaluate(Partition partition, int depth, int cutoff) {
+        int boundCost = 0;
+        boolean boundExact = true;
+        for (int bucket = 0; bucket < partition.numBuckets; bucket++) {
+            int bucketSize = partition.bucketSize(bucket);
+            boundCost = combine(boundCost, partition.isAllInPosition(bucket) ? 1 : childCost(bucketSize, leafCost(bucketSize)));
+            boundExact &= partition.isAllInPosition(bucket) || bucketSize <= 2;
+        }
+        if (boundCost >= cutoff) {
+            return new Evaluation(boundCost, false, false);
+        }
+        if (depth == 1 || boundExact) {
+            return new Evaluation(boundCost, boundExact, true);
+        }
+
+        int cost = boundCost;
+        boolean exact = true;
+        for (int bucket = 0; bucket < partition.numBuckets; bucket++) {
+            int bucketSize = partition.bucketSize(bucket);
+            if (bucketSize <= 2 || partition.isAllInPosition(bucket)) continue;
+            if (cost >= cutoff) {
+                return new Evaluation(cost, false, false);
+            }
+            Entry childEntry = lookup(partition.bucketWordIds(bucket), depth - 1);
+            int bucketCost = childCost(bucketSize, childEntry.cost);
+            cost = worstCase ? Math.max(cost, bucketCost) : cost + bucketCost - childCost(bucketSize, leafCost(bucketSize));
+            exact &= childEntry.exact;
+        }
+        return new Evaluation(cost, exact, true);
+    }
+
+    private int leafCost(int numWords) {
+        if (numWords <= 1) {
+            return numWords;
+        }
+        return worstCase ? 2 : 2 * numWords - 1;
+    }
+
+    private int childCost(int numWords, int cost) {
+        return worstCase ? 1 + cost : numWords + cost;
+    }
+
+    private int combine(int cost, int bucketCost) {
+        return worstCase ? Math.max(cost, bucketCost) : cost + bucketCost;
+    }
+
+    long getNumTranspositionHits() {
+        return numTranspositionHits;
+    }
+
+    long getNumTranspositionMisses() {
+        return numTranspositionMisses;
+    }
+
+    long getNumCandidatesCollapsed() {
+        return numCandidatesCollapsed;
+    }
+
+    int getTranspositionTableSize() {
+        return transpositionTable.size();
+    }
+
+    private final class Partition {
+
+        private final int[] wordIds;
+        private final long[] patternAndWordIndex;
+        private final int[] bucketStarts;
+        private final int numBuckets;
+        private final int allInPosition;
+        private final WordIds signature;
+
+        Partition(int[] wordIds, int guessIndex) {
+            this.wordIds = wordIds;
+            byte[] guess = dictionaryIndex.getEncodedWord(wordIds[guessIndex]);
+            this.patternAndWordIndex = new long[wordIds.length];
+            for (int wordIndex = 0; wordIndex < wordIds.length; wordIndex++) {
+                patternAndWordIndex[wordIndex] = ((long) FeedbackPatterns.compute(guess, dictionaryIndex.getEncodedWord(wordIds[wordIndex])) << 32) | wordIndex;
+            }
+            numPatternsComputed += wordIds.length;
+            Arrays.sort(patternAndWordIndex);
+            this.allInPosition = FeedbackPatterns.allInPosition(guess.length);
+
+            int[] bucketStarts = new int[wordIds.length + 1];
+            int[] wordIndexToFirstWordIndexInBucket = new int[wordIds.length];
+            int numBuckets = 0;
+            for (int bucketEnd = 1; bucketEnd <= patternAndWordIndex.length; bucketEnd++) {
+                int bucketStart = bucketStarts[numBuckets];
+                if (bucketEnd < patternAndWordIndex.length && pattern(bucketEnd) == pattern(bucketStart)) continue;
+                for (int bucketIndex = bucketStart; bucketIndex < bucketEnd; bucketIndex++) {
+                    wordIndexToFirstWordIndexInBucket[(int) patternAndWordIndex[bucketIndex]] = (int) patternAndWordIndex[bucketStart];
+                }
+                bucketStarts[++numBuckets] = bucketEnd;
+            }
+            this.bucketStarts = bucketStarts;
+            this.numBuckets = numBuckets;
+            this.signature = new WordIds(wordIndexToFirstWordIndexInBucket);
+        }
+
+        private int pattern(int sortedIndex) {
+            return (int) (patternAndWordIndex[sortedIndex] >>> 32);
+        }
+
+        int bucketSize(int bucket) {
+            return bucketStarts[bucket + 1] - bucketStarts[bucket];
+        }
+
+        boolean isAllInPosition(int bucket) {
+            return pattern(bucketStarts[bucket]) == allInPosition;
+        }
+
+        int[] bucketWordIds(int bucket) {
+            int[] bucketWordIds = new int[bucketSize(bucket)];
+            for (int bucketIndex = 0; bucketIndex < bucketWordIds.length; bucketIndex++) {
+                bucketWordIds[bucketIndex] = wordIds[(int) patternAndWordIndex[bucketStarts[bucket] + bucketIndex]];
+            }
+            return bucketWordIds;
+        }
+
+    }
+
+    private static final class Evaluation {
+
+        private final int cost;
+        private final boolean exact;
+        private final boolean complete;
+
+        Evaluation(int cost, boolean exact, boolean complete) {
+            this.cost = cost;
+            this.exact = exact;
+            this.complete = complete;
+        }
+
+    }
+
+    private static final class Entry {
+
+        private final int cost;
+        private final int bestWordIndex;
+        private final int depth;
+        private final boolean exact;
+
+        Entry(int cost, int bestWordIndex, int depth, boolean exact) {
+            this.cost = cost;
+            this.bestWordIndex = bestWordIndex;
+            this.depth = depth;
+            this.exact = exact;
+        }
+
+    }
+
+    private static final class WordIds {
+
+        private final int[] wordIds;
+        private final int hashCode;
+
+        WordIds(int[] wordIds) {
+            this.wordIds = wordIds;
+            this.hashCode = Arrays.hashCode(wordIds);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof WordIds && Arrays.equals(wordIds, ((WordIds) other).wordIds);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+    }
+
+}
@@ -0,0 +1,249 @@
+package aaron.wordle.solver;
+
+import aaron.wordle.game.PositionResponse;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+public class MultiBoardSolver {
+
+    private final DictionaryIndex dictionaryIndex;
+    private final int parallelism;
+    private final ScoringStrategy scoringStrategy;
+    private final WordConstraints[] wordConstraints;
+    private final BitSet[] remainingWordIds;
+    private final boolean[] solved;
+    private final StringBuilder history;
+    private GuessCache guessCache;
+    private SearchStatistics lastSearchStatistics;
+
+    public MultiBoardSolver(List<String> dictionary, int numBoards, int parallelism, ScoringStrategy scoringStrategy) {
+        this(WordleSolver.indexDictionary(dictionary), numBoards, parallelism, scoringStrategy);
+    }
+
+    public MultiBoardSolver(DictionaryIndex dictionaryIndex, int numBoards, int parallelism, ScoringStrategy scoringStrategy) {
+        if (numBoards < 1) {
+            throw new IllegalArgumentException("numBoards = " + numBoards + " must be at least 1!");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism = " + parallelism + " must be at least 1!");
+        }
+        this.dictionaryIndex = dictionaryIndex;
+        this.parallelism = parallelism;
+        this.scoringStrategy = scoringStrategy;
+        this.wordConstraints = new WordConstraints[numBoards];
+        this.remainingWordIds = new BitSet[numBoards];
+        this.solved = new boolean[numBoards];
+        for (int board = 0; board < numBoards; board++) {
+            wordConstraints[board] = new WordConstraints(dictionaryIndex.getWordLength());
+            remainingWordIds[board] = dictionaryIndex.allWordIds();
+        }
+        this.history = new StringBuilder();
+        this.lastSearchStatistics = new SearchStatistics();
+    }
+
+    public String nextGuess() {
+        lastSearchStatistics = new SearchStatistics();
+        BitSet unionWordIds = new BitSet();
+        for (int board = 0; board < solved.length; board++) {
+            if (solved[board]) continue;
+            if (remainingWordIds[board].cardinality() == 1) {
+                return dictionaryIndex.getWord(remainingWordIds[board].nextSetBit(0));
+            }
+            unionWordIds.or(remainingWordIds[board]);
+        }
+        if (unionWordIds.isEmpty()) {
+            return null;
+        }
+        if (guessCache != null) {
+            Optional<String> cachedGuess = guessCache.get(cacheKey());
+            if (cachedGuess.isPresent()) {
+                return cachedGuess.get();
+            }
+        }
+        int[] unionIds = unionWordIds.stream().toArray();
+        byte[][] unionWords = dictionaryIndex.getEncodedWords(unionWordIds);
+        List<int[]> boardAnswerIndices = new ArrayList<>();
+        for (int board = 0; board < solved.length; board++) {
+            if (solved[board] || remainingWordIds[board].isEmpty()) continue;
+            boardAnswerIndices.add(remainingWordIds[board].stream().map(wordId -> Arrays.binarySearch(unionIds, wordId)).toArray());
+        }
+        int[] candidateOrder = GuessScoringTask.orderByLetterCoverage(unionWords);
+        BoardScoringTask scoringTask = new BoardScoringTask(unionWords, boardAnswerIndices.toArray(new int[0][]), candidateOrder,
+                scoringStrategy, lastSearchStatistics, PatternComputer.forAnswers(unionWords, unionWords.length), 0, candidateOrder.length);
+        ScoredGuess best;
+        if (parallelism > 1) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                best = pool.invoke(scoringTask);
+            } finally {
+                pool.shutdown();
+            }
+        } else {
+            best = scoringTask.compute();
+        }
+        String guess = dictionaryIndex.getWord(unionIds[best.wordIndex < 0 ? candidateOrder[0] : best.wordIndex]);
+        if (guessCache != null) {
+            guessCache.put(cacheKey(), guess);
+        }
+        return guess;
+    }
+
+    public void updateFromGuess(String guess, List<List<PositionResponse>> responses) {
+        if (responses.size() != solved.length) {
+            throw new IllegalArgumentException("responses.size() = " + responses.size() + " must equal numBoards = " + solved.length + "!");
+        }
+        List<Integer> unsolvedBoards = new ArrayList<>();
+        WordConstraints[] updatedConstraints = new WordConstraints[solved.length];
+        for (int board = 0; board < solved.length; board++) {
+            if (solved[board]) continue;
+            updatedConstraints[board] = wordConstraints[board].updateFromGuess(guess, responses.get(board));
+            if (updatedConstraints[board] == null) {
+                throw new IllegalArgumentException("response " + responses.get(board) + " for board " + board + " is inconsistent with guess " + guess + "!");
+            }
+            unsolvedBoards.add(board);
+        }
+        history.append(guess).append(':');
+        for (int board = 0; board < solved.length; board++) {
+            if (solved[board]) {
+                history.append('-');
+            } else {
+                history.append(FeedbackPatterns.fromPositionResponses(responses.get(board)));
+            }
+            history.append(board == solved.length - 1 ? ';' : ',');
+        }
+        if (parallelism > 1 && unsolvedBoards.size() > 1) {
+            ForkJoinPool pool = new ForkJoinPool(Math.min(parallelism, unsolvedBoards.size()));
+            try {
+                List<ForkJoinTask<?>> updates = new ArrayList<>();
+                for (int board : unsolvedBoards) {
+                    updates.add(pool.submit(() -> updateBoard(board, updatedConstraints[board], responses.get(board))));
+                }
+                for (ForkJoinTask<?> update : updates) {
+                    update.join();
+                }
+            } finally {
+                pool.shutdown();
+            }
+        } else {
+            for (int board : unsolvedBoards) {
+                updateBoard(board, updatedConstraints[board], responses.get(board));
+            }
+        }
+    }
+
+    private void updateBoard(int board, WordConstraints updatedConstraints, List<PositionResponse> response) {
+        wordConstraints[board] = updatedConstraints;
+        remainingWordIds[board] = dictionaryIndex.filter(wordConstraints[board], remainingWordIds[board]);
+        solved[board] = response.stream().allMatch(PositionResponse.IN_POSITION::equals);
+    }
+
+    private String cacheKey() {
+        return scoringStrategy.getName() + "+boards" + solved.length + "|" + history;
+    }
+
+    public void setGuessCache(GuessCache guessCache) {
+        this.guessCache = guessCache;
+    }
+
+    public List<String> getRemainingWords(int board) {
+        return new ArrayList<>(dictionaryIndex.getWords(remainingWordIds[board]));
+    }
+
+    public boolean isSolved(int board) {
+        return solved[board];
+    }
+
+    public boolean isSolved() {
+        for (boolean boardSolved : solved) {
+            if (!boardSolved) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getNumBoards() {
+        return solved.length;
+    }
+
+    public int getWordLength() {
+        return dictionaryIndex.getWordLength();
+    }
+
+    public SearchStatistics getLastSearchStatistics() {
+        return lastSearchStatistics;
+    }
+
+    private static class BoardScoringTask extends RecursiveTask<ScoredGuess> {
+
+        private static final long serialVersionUID = 1L;
+
+        private static final int MAX_GUESSES_PER_LEAF = 32;
+
+        private final byte[][] unionWords;
+        private final int[][] boardAnswerIndices;
+        private final int[] candidateOrder;
+        private final ScoringStrategy scoringStrategy;
+        private final SearchStatistics searchStatistics;
+        private final PatternComputer patternComputer;
+        private final int startCandidate;
+        private final int endCandidate;
+
+        BoardScoringTask(byte[][] unionWords, int[][] boardAnswerIndices, int[] candidateOrder, ScoringStrategy scoringStrategy,
+                         SearchStatistics searchStatistics, PatternComputer patternComputer, int startCandidate, int endCandidate) {
+            this.unionWords = unionWords;
+            this.boardAnswerIndices = boardAnswerIndices;
+            this.candidateOrder = candidateOrder;
+            this.scoringStrategy = scoringStrategy;
+            this.searchStatistics = searchStatistics;
+            this.patternComputer = patternComputer;
+            this.startCandidate = startCandidate;
+            this.endCandidate = endCandidate;
+        }
+
+        @Override
+        protected ScoredGuess compute() {
+            if (endCandidate - startCandidate <= MAX_GUESSES_PER_LEAF || getPool() == null) {
+                return scoreCandidates();
+            }
+            int middleCandidate = (startCandidate + endCandidate) >>> 1;
+            BoardScoringTask lowerHalf = new BoardScoringTask(unionWords, boardAnswerIndices, candidateOrder, scoringStrategy, searchStatistics, patternComputer, startCandidate, middleCandidate);
+            BoardScoringTask upperHalf = new BoardScoringTask(unionWords, boardAnswerIndices, candidateOrder, scoringStrategy, searchStatistics, patternComputer, middleCandidate, endCandidate);
+            upperHalf.fork();
+            ScoredGuess lowerBest = lowerHalf.compute();
+            ScoredGuess upperBest = upperHalf.join();
+            return ScoredGuess.better(lowerBest, upperBest);
+        }
+
+        private ScoredGuess scoreCandidates() {
+            GuessScorer guessScorer = new GuessScorer(unionWords[0].length);
+            int[] guessPatterns = new int[unionWords.length];
+            long numBoardAnswers = 0;
+            for (int[] answerIndices : boardAnswerIndices) {
+                numBoardAnswers += answerIndices.length;
+            }
+            ScoredGuess best = ScoredGuess.NONE;
+            for (int candidate = startCandidate; candidate < endCandidate; candidate++) {
+                int wordIndex = candidateOrder[candidate];
+                patternComputer.compute(unionWords[wordIndex], guessPatterns);
+                double score = 0;
+                for (int[] answerIndices : boardAnswerIndices) {
+                    guessScorer.scorePatterns(guessPatterns, answerIndices, answerIndices.length);
+                    score += scoringStrategy.score(guessScorer);
+                }
+                ScoredGuess scoredGuess = new ScoredGuess(wordIndex, score);
+                if (scoredGuess.isBetterThan(best)) {
+                    best = scoredGuess;
+                }
+            }
+            long numCandidates = endCandidate - startCandidate;
+            searchStatistics.addCandidates(numCandidates, 0, numCandidates * unionWords.length, numCandidates * numBoardAnswers);
+            return best;
+        }
+
+    }
+
+}
@@ -0,0 +1,166 @@
+package aaron.wordle.solver;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+public class PackedWords {
+
+    public static final int MAX_WORD_LENGTH = 12;
+
+    static final int BITS_PER_LETTER = 5;
+
+    private static final long LETTER_MASK = (1L << BITS_PER_LETTER) - 1;
+    private static final long LANE_ONES = laneConstant(1);
+    private static final long LANE_LOW_BITS = laneConstant(LETTER_MASK >>> 1);
+    private static final long LANE_HIGH_BITS = laneConstant(1L << (BITS_PER_LETTER - 1));
+
+    private final int wordLength;
+    private final LongBuffer packedWords;
+
+    PackedWords(int wordLength, LongBuffer packedWords) {
+        checkWordLength(wordLength);
+        this.wordLength = wordLength;
+        this.packedWords = packedWords;
+    }
+
+    public static PackedWords pack(List<String> dictionary, boolean offHeap) {
+        if (dictionary.isEmpty()) {
+            throw new IllegalArgumentException("dictionary must be non-empty!");
+        }
+        int wordLength = dictionary.get(0).length();
+        checkWordLength(wordLength);
+        long[] packedWords = new long[dictionary.size()];
+        for (int wordIndex = 0; wordIndex < packedWords.length; wordIndex++) {
+            String word = dictionary.get(wordIndex);
+            if (word.length() != wordLength) {
+                throw new IllegalArgumentException("dictionary words must be same length!");
+            }
+            if (!WordleSolver.isLowercaseWord(word)) {
+                throw new IllegalArgumentException("dictionary words must match regex `[a-z]+`!");
+            }
+            packedWords[wordIndex] = pack(word);
+        }
+        return new PackedWords(wordLength, deduplicate(packedWords, offHeap));
+    }
+
+    private static LongBuffer deduplicate(long[] packedWords, boolean offHeap) {
+        long[] sortedPackedWords = packedWords.clone();
+        Arrays.sort(sortedPackedWords);
+        boolean[] sortedWordSeen = new boolean[sortedPackedWords.length];
+        boolean[] isDuplicate = new boolean[packedWords.length];
+        int numUniqueWords = 0;
+        for (int wordIndex = 0; wordIndex < packedWords.length; wordIndex++) {
+            int sortedIndex = Arrays.binarySearch(sortedPackedWords, packedWords[wordIndex]);
+            while (sortedIndex > 0 && sortedPackedWords[sortedIndex - 1] == packedWords[wordIndex]) sortedIndex--;
+            isDuplicate[wordIndex] = sortedWordSeen[sortedIndex];
+            if (!isDuplicate[wordIndex]) {
+                sortedWordSeen[sortedIndex] = true;
+                numUniqueWords++;
+            }
+        }
+        LongBuffer uniquePackedWords = allocate(numUniqueWords, offHeap);
+        int uniqueWordId = 0;
+        for (int wordIndex = 0; wordIndex < packedWords.length; wordIndex++) {
+            if (!isDuplicate[wordIndex]) {
+                uniquePackedWords.put(uniqueWordId++, packedWords[wordIndex]);
+            }
+        }
+        return uniquePackedWords;
+    }
+
+    static LongBuffer allocate(int numWords, boolean offHeap) {
+        return offHeap ? ByteBuffer.allocateDirect(numWords * Long.BYTES).order(ByteOrder.nativeOrder()).asLongBuffer() : LongBuffer.allocate(numWords);
+    }
+
+    public static long pack(String word) {
+        long packedWord = 0;
+        for (int position = word.length() - 1; position >= 0; position--) {
+            packedWord = (packedWord << BITS_PER_LETTER) | (word.charAt(position) - 'a');
+        }
+        return packedWord;
+    }
+
+    public static long pack(byte[] encodedWord) {
+        long packedWord = 0;
+        for (int position = encodedWord.length - 1; position >= 0; position--) {
+            packedWord = (packedWord << BITS_PER_LETTER) | encodedWord[position];
+        }
+        return packedWord;
+    }
+
+    public static int letterAt(long packedWord, int position) {
+        return (int) ((packedWord >>> (position * BITS_PER_LETTER)) & LETTER_MASK);
+    }
+
+    static int countLetter(long packedWord, int letter, int wordLength) {
+        long differences = packedWord ^ (letter * LANE_ONES);
+        long nonZeroLanes = ((differences & LANE_LOW_BITS) + LANE_LOW_BITS) | differences;
+        return Long.bitCount(~nonZeroLanes & LANE_HIGH_BITS & ((1L << (wordLength * BITS_PER_LETTER)) - 1));
+    }
+
+    private static long laneConstant(long lane) {
+        long constant = 0;
+        for (int position = 0; position < MAX_WORD_LENGTH; position++) {
+            constant |= lane << (position * BITS_PER_LETTER);
+        }
+        return constant;
+    }
+
+    public long get(int wordId) {
+        return packedWords.get(wordId);
+    }
+
+    public byte[] getEncodedWord(int wordId) {
+        long packedWord = packedWords.get(wordId);
+        byte[] encodedWord = new byte[wordLength];
+        for (int position = 0; position < wordLength; position++) {
+            encodedWord[position] = (byte) letterAt(packedWord, position);
+        }
+        return encodedWord;
+    }
+
+    public String getWord(int wordId) {
+        long packedWord = packedWords.get(wordId);
+        char[] word = new char[wordLength];
+        for (int position = 0; position < wordLength; position++) {
+            word[position] = (char) ('a' + letterAt(packedWord, position));
+        }
+        return new String(word);
+    }
+
+    public BitSet filter(WordConstraints wordConstraints, BitSet candidateWordIds) {
+        if (wordConstraints.getWordLength() != wordLength) {
+            throw new IllegalArgumentException("wordConstraints should have length wordLength = " + wordLength + ".");
+        }
+        BitSet wordIds = new BitSet(size());
+        for (int wordId = candidateWordIds.nextSetBit(0); wordId >= 0; wordId = candidateWordIds.nextSetBit(wordId + 1)) {
+            if (wordConstraints.wordFitsConstraints(packedWords.get(wordId))) {
+                wordIds.set(wordId);
+            }
+        }
+        return wordIds;
+    }
+
+    public int size() {
+        return packedWords.limit();
+    }
+
+    public int getWordLength() {
+        return wordLength;
+    }
+
+    public boolean isOffHeap() {
+        return packedWords.isDirect();
+    }
+
+    private static void checkWordLength(int wordLength) {
+        if (wordLength < 1 || wordLength > MAX_WORD_LENGTH) {
+            throw new IllegalArgumentException("wordLength = " + wordLength + " must be between 1 and " + MAX_WORD_LENGTH + "!");
+        }
+    }
+
+}
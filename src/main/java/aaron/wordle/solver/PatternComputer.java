@@ -0,0 +1,95 @@
+package aaron.wordle.solver;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+public abstract class PatternComputer {
+
+    public static final String BACKEND_PROPERTY = "wordle.patternBackend";
+    public static final String SCALAR = "scalar";
+    public static final String VECTOR = "vector";
+
+    private static final Constructor<? extends PatternComputer> VECTOR_CONSTRUCTOR = findVectorConstructor();
+
+    final byte[][] answers;
+    final int numAnswers;
+
+    PatternComputer(byte[][] answers, int numAnswers) {
+        this.answers = answers;
+        this.numAnswers = numAnswers;
+    }
+
+    public static PatternComputer forAnswers(byte[][] answers, int numAnswers) {
+        String backend = System.getProperty(BACKEND_PROPERTY, isVectorAvailable() ? VECTOR : SCALAR);
+        if (backend.equals(VECTOR)) {
+            return vector(answers, numAnswers);
+        } else if (backend.equals(SCALAR)) {
+            return scalar(answers, numAnswers);
+        }
+        throw new IllegalArgumentException(BACKEND_PROPERTY + " = " + backend + " must be " + SCALAR + " or " + VECTOR + "!");
+    }
+
+    public static PatternComputer scalar(byte[][] answers, int numAnswers) {
+        return new PatternComputer(answers, numAnswers) {
+            @Override
+            public void compute(byte[] guess, int[] patterns, int startAnswer, int endAnswer) {
+                for (int answerIndex = startAnswer; answerIndex < endAnswer; answerIndex++) {
+                    patterns[answerIndex] = FeedbackPatterns.compute(guess, answers[answerIndex]);
+                }
+            }
+
+            @Override
+            public String getBackend() {
+                return SCALAR;
+            }
+        };
+    }
+
+    public static PatternComputer vector(byte[][] answers, int numAnswers) {
+        if (VECTOR_CONSTRUCTOR == null) {
+            throw new UnsupportedOperationException("vector backend requires the -Pvector build and --add-modules jdk.incubator.vector!");
+        }
+        return newVectorPatternComputer(answers, numAnswers);
+    }
+
+    public static boolean isVectorAvailable() {
+        return VECTOR_CONSTRUCTOR != null;
+    }
+
+    public void compute(byte[] guess, int[] patterns) {
+        compute(guess, patterns, 0, numAnswers);
+    }
+
+    public abstract void compute(byte[] guess, int[] patterns, int startAnswer, int endAnswer);
+
+    public abstract String getBackend();
+
+    public int getNumAnswers() {
+        return numAnswers;
+    }
+
+    private static PatternComputer newVectorPatternComputer(byte[][] answers, int numAnswers) {
+        try {
+            return VECTOR_CONSTRUCTOR.newInstance(answers, numAnswers);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Error creating vector backend.", e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Error creating vector backend.", e);
+        }
+    }
+
+    private static Constructor<? extends PatternComputer> findVectorConstructor() {
+        try {
+            Constructor<? extends PatternComputer> constructor = Class.forName("aaron.wordle.solver.VectorPatternComputer")
+                    .asSubclass(PatternComputer.class).getDeclaredConstructor(byte[][].class, int.class);
+            constructor.newInstance(new byte[][]{{0}}, 1).compute(new byte[]{0}, new int[1]);
+            return constructor;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+}
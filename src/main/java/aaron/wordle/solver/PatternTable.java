@@ -0,0 +1,60 @@
+package aaron.wordle.solver;
+
+import java.util.Arrays;
+
+class PatternTable {
+
+    static final int MAX_NUM_WORDS = 2048;
+
+    private final int[] wordIds;
+    private final int[][] rows;
+    private int[] previousRowIndices;
+    private int[][] previousRows;
+
+    PatternTable(int[] wordIds, PatternTable previous) {
+        this.wordIds = wordIds;
+        this.rows = new int[wordIds.length][];
+        if (previous != null) {
+            previousRowIndices = new int[wordIds.length];
+            for (int wordIndex = 0; wordIndex < wordIds.length; wordIndex++) {
+                previousRowIndices[wordIndex] = Arrays.binarySearch(previous.wordIds, wordIds[wordIndex]);
+                if (previousRowIndices[wordIndex] < 0) {
+                    previousRowIndices = null;
+                    break;
+                }
+            }
+            previousRows = previousRowIndices == null ? null : previous.rows;
+        }
+    }
+
+    int[] getKnownPatterns(int wordIndex) {
+        return previousRows == null ? null : previousRows[previousRowIndices[wordIndex]];
+    }
+
+    int[] getKnownPatternIndices() {
+        return previousRowIndices;
+    }
+
+    int getNumKnownPatterns(int wordIndex) {
+        int[] knownPatterns = getKnownPatterns(wordIndex);
+        if (knownPatterns == null) {
+            return 0;
+        }
+        int numKnownPatterns = Arrays.binarySearch(previousRowIndices, knownPatterns.length);
+        return numKnownPatterns < 0 ? -numKnownPatterns - 1 : numKnownPatterns;
+    }
+
+    void setRow(int wordIndex, int[] patterns, int numPatterns) {
+        rows[wordIndex] = Arrays.copyOf(patterns, numPatterns);
+    }
+
+    void releasePrevious() {
+        previousRowIndices = null;
+        previousRows = null;
+    }
+
+    int[] getWordIds() {
+        return wordIds;
+    }
+
+}
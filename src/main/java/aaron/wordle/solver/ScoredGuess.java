@@ -0,0 +1,26 @@
+package aaron.wordle.solver;
+
+class ScoredGuess {
+
+    static final ScoredGuess NONE = new ScoredGuess(-1, Double.POSITIVE_INFINITY);
+
+    final int wordIndex;
+    final double score;
+
+    ScoredGuess(int wordIndex, double score) {
+        this.wordIndex = wordIndex;
+        this.score = score;
+    }
+
+    boolean isBetterThan(ScoredGuess other) {
+        if (score != other.score) {
+            return score < other.score;
+        }
+        return wordIndex >= 0 && (other.wordIndex < 0 || wordIndex < other.wordIndex);
+    }
+
+    static ScoredGuess better(ScoredGuess first, ScoredGuess second) {
+        return second.isBetterThan(first) ? second : first;
+    }
+
+}
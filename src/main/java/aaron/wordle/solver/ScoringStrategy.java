@@ -0,0 +1,66 @@
+package aaron.wordle.solver;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum ScoringStrategy {
+    MIN_MAX("min-max") {
+        @Override
+        double score(GuessScorer guessScorer) {
+            return guessScorer.getMaxBucketSize();
+        }
+
+        @Override
+        int maxBucketSizeBound(ScoredGuess best, int wordIndex) {
+            if (best.wordIndex < 0) {
+                return Integer.MAX_VALUE;
+            }
+            return (int) best.score + (wordIndex < best.wordIndex ? 1 : 0);
+        }
+    },
+    EXPECTED_SIZE("expected-size") {
+        @Override
+        double score(GuessScorer guessScorer) {
+            return (double) guessScorer.getSumOfSquaredBucketSizes() / guessScorer.getNumAnswers();
+        }
+    },
+    ENTROPY("entropy") {
+        @Override
+        double score(GuessScorer guessScorer) {
+            int numAnswers = guessScorer.getNumAnswers();
+            return guessScorer.getSumOfBucketSizeLogBucketSizes() / numAnswers - Math.log(numAnswers);
+        }
+    },
+    HYBRID("hybrid") {
+        @Override
+        double score(GuessScorer guessScorer) {
+            long numAnswers = guessScorer.getNumAnswers();
+            return guessScorer.getMaxBucketSize() + guessScorer.getSumOfSquaredBucketSizes() / (numAnswers * numAnswers + 1.0);
+        }
+
+        @Override
+        int maxBucketSizeBound(ScoredGuess best, int wordIndex) {
+            return best.wordIndex < 0 ? Integer.MAX_VALUE : (int) best.score + 1;
+        }
+    };
+
+    private final String name;
+
+    ScoringStrategy(String name) {
+        this.name = name;
+    }
+
+    abstract double score(GuessScorer guessScorer);
+
+    int maxBucketSizeBound(ScoredGuess best, int wordIndex) {
+        return Integer.MAX_VALUE;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public static Optional<ScoringStrategy> fromName(String name) {
+        return Arrays.stream(ScoringStrategy.values()).filter(scoringStrategy -> scoringStrategy.name.equals(name)).findFirst();
+    }
+}
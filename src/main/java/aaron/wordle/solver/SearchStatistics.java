@@ -0,0 +1,56 @@
+package aaron.wordle.solver;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class SearchStatistics {
+
+    private final LongAdder numCandidatesScored = new LongAdder();
+    private final LongAdder numCandidatesPruned = new LongAdder();
+    private final LongAdder numPatternsComputed = new LongAdder();
+    private final LongAdder numPatternsPossible = new LongAdder();
+    private final LongAdder numCandidatesCollapsed = new LongAdder();
+
+    void addCandidates(long numScored, long numPruned, long numPatternsComputed, long numPatternsPossible) {
+        this.numCandidatesScored.add(numScored);
+        this.numCandidatesPruned.add(numPruned);
+        this.numPatternsComputed.add(numPatternsComputed);
+        this.numPatternsPossible.add(numPatternsPossible);
+    }
+
+    void addCandidatesCollapsed(long numCollapsed) {
+        this.numCandidatesCollapsed.add(numCollapsed);
+    }
+
+    public long getNumCandidatesScored() {
+        return numCandidatesScored.sum();
+    }
+
+    public long getNumCandidatesPruned() {
+        return numCandidatesPruned.sum();
+    }
+
+    public long getNumCandidatesCollapsed() {
+        return numCandidatesCollapsed.sum();
+    }
+
+    public long getNumPatternsComputed() {
+        return numPatternsComputed.sum();
+    }
+
+    public long getNumPatternsPossible() {
+        return numPatternsPossible.sum();
+    }
+
+    public double getPrunedWorkFraction() {
+        long numPatternsPossible = getNumPatternsPossible();
+        return numPatternsPossible == 0 ? 0 : 1 - (double) getNumPatternsComputed() / numPatternsPossible;
+    }
+
+    @Override
+    public String toString() {
+        return "SearchStatistics{candidatesScored=" + getNumCandidatesScored() + ", candidatesPruned=" + getNumCandidatesPruned()
+                + ", candidatesCollapsed=" + getNumCandidatesCollapsed() + ", patternsComputed=" + getNumPatternsComputed()
+                + ", patternsPossible=" + getNumPatternsPossible() + ", prunedWorkFraction=" + getPrunedWorkFraction() + "}";
+    }
+
+}
@@ -0,0 +1,17 @@
+package aaron.wordle.solver;
+
+public interface SolverListener {
+
+    SolverListener NO_OP = new SolverListener() {
+    };
+
+    default void onSearchProgress(int numCandidatesProcessed, int numCandidates, long elapsedNanos) {
+    }
+
+    default void onNextGuess(GuessResult guessResult, int numRemainingWords, long elapsedNanos) {
+    }
+
+    default void onUpdateFromGuess(String guess, int numWordsChecked, int numRemainingWords, long elapsedNanos) {
+    }
+
+}
@@ -0,0 +1,57 @@
+package aaron.wordle.solver;
+
+import aaron.wordle.game.PositionResponse;
+
+import java.util.BitSet;
+import java.util.List;
+
+public class SolverState {
+
+    private final WordConstraints wordConstraints;
+    private final BitSet remainingWordIds;
+    private final String history;
+
+    public SolverState(DictionaryIndex dictionaryIndex) {
+        this(new WordConstraints(dictionaryIndex.getWordLength()), dictionaryIndex.allWordIds(), "");
+    }
+
+    private SolverState(WordConstraints wordConstraints, BitSet remainingWordIds, String history) {
+        this.wordConstraints = wordConstraints;
+        this.remainingWordIds = remainingWordIds;
+        this.history = history;
+    }
+
+    public SolverState updateFromGuess(DictionaryIndex dictionaryIndex, String guess, List<PositionResponse> response) {
+        WordConstraints updatedConstraints = updateConstraints(wordConstraints, guess, response);
+        return new SolverState(updatedConstraints, dictionaryIndex.filter(updatedConstraints, remainingWordIds), history + historyEntry(guess, response));
+    }
+
+    static WordConstraints updateConstraints(WordConstraints wordConstraints, String guess, List<PositionResponse> response) {
+        WordConstraints updatedConstraints = wordConstraints.updateFromGuess(guess, response);
+        if (updatedConstraints == null) {
+            throw new IllegalArgumentException("response " + response + " is inconsistent with guess " + guess + "!");
+        }
+        return updatedConstraints;
+    }
+
+    static String historyEntry(String guess, List<PositionResponse> response) {
+        return guess + ':' + FeedbackPatterns.fromPositionResponses(response) + ';';
+    }
+
+    public int getNumRemainingWords() {
+        return remainingWordIds.cardinality();
+    }
+
+    public String getHistory() {
+        return history;
+    }
+
+    WordConstraints getWordConstraints() {
+        return wordConstraints;
+    }
+
+    BitSet getRemainingWordIds() {
+        return remainingWordIds;
+    }
+
+}
@@ -6,10 +6,14 @@ import java.util.*;
 
 public class WordConstraints {
 
+    private static final int ALL_LETTERS_MASK = (1 << 26) - 1;
+    private static final PositionResponse[] POSITION_RESPONSES = PositionResponse.values();
+
     private final int wordLength;
-    private final int[] characterToMinCountInWord;
-    private final Map<Character, Integer> characterToMaxCountInWord;
-    private final boolean[][] positionToAllowedCharacters;
+    private final int[] positionToAllowedLettersMask;
+    private final byte[] letterToMinCountInWord;
+    private final byte[] letterToMaxCountInWord;
+    private int countConstrainedLettersMask;
 
     private WordConstraints() {
         throw new IllegalStateException();
@@ -17,73 +21,87 @@ public class WordConstraints {
 
     private WordConstraints(WordConstraints wordConstraints) {
         wordLength = wordConstraints.wordLength;
-        characterToMinCountInWord = Arrays.copyOf(wordConstraints.characterToMinCountInWord, wordConstraints.characterToMinCountInWord.length);
-        characterToMaxCountInWord = new HashMap<>(wordConstraints.characterToMaxCountInWord);
-        positionToAllowedCharacters = new boolean[wordConstraints.wordLength][];
-        for (int position = 0; position < positionToAllowedCharacters.length; position++) {
-            positionToAllowedCharacters[position] = Arrays.copyOf(wordConstraints.positionToAllowedCharacters[position], wordConstraints.positionToAllowedCharacters[position].length);
-        }
+        positionToAllowedLettersMask = Arrays.copyOf(wordConstraints.positionToAllowedLettersMask, wordConstraints.positionToAllowedLettersMask.length);
+        letterToMinCountInWord = Arrays.copyOf(wordConstraints.letterToMinCountInWord, wordConstraints.letterToMinCountInWord.length);
+        letterToMaxCountInWord = Arrays.copyOf(wordConstraints.letterToMaxCountInWord, wordConstraints.letterToMaxCountInWord.length);
+        countConstrainedLettersMask = wordConstraints.countConstrainedLettersMask;
     }
 
     public WordConstraints(int wordLength) {
-        this.characterToMinCountInWord = new int[26];
-        this.characterToMaxCountInWord = new HashMap<>();
-        this.wordLength = wordLength;
-        this.positionToAllowedCharacters = new boolean[wordLength][];
-        for (int position = 0; position < positionToAllowedCharacters.length; ++position) {
-            this.positionToAllowedCharacters[position] = new boolean[26];
-            for (int allowedCharacter = 0; allowedCharacter < 26; ++allowedCharacter) {
-                this.positionToAllowedCharacters[position][allowedCharacter] = true;
-            }
+        if (wordLength < 1 || wordLength > FeedbackPatterns.MAX_WORD_LENGTH) {
+            throw new IllegalArgumentException("wordLength = " + wordLength + " must be between 1 and " + FeedbackPatterns.MAX_WORD_LENGTH + "!");
         }
+        this.wordLength = wordLength;
+        this.positionToAllowedLettersMask = new int[wordLength];
+        Arrays.fill(this.positionToAllowedLettersMask, ALL_LETTERS_MASK);
+        this.letterToMinCountInWord = new byte[26];
+        this.letterToMaxCountInWord = new byte[26];
+        Arrays.fill(this.letterToMaxCountInWord, (byte) Math.min(wordLength, Byte.MAX_VALUE));
+        this.countConstrainedLettersMask = 0;
     }
 
     public WordConstraints updateFromGuess(String guess, List<PositionResponse> response) {
-        WordConstraints constraints = new WordConstraints(this);
-
         if (!guessResponseIsValid(guess, response)) {
             return null;
         }
+        return updateFromGuess(FeedbackPatterns.encode(guess), FeedbackPatterns.fromPositionResponses(response));
+    }
+
+    public WordConstraints updateFromGuess(byte[] guess, int pattern) {
+        if (guess.length != wordLength) {
+            throw new IllegalArgumentException("guess should have length wordLength = " + wordLength + ".");
+        }
+        for (byte letter : guess) {
+            if (letter < 0 || letter >= 26) {
+                throw new IllegalArgumentException("guess letter = " + letter + " must be between 0 and 25!");
+            }
+        }
+        WordConstraints constraints = new WordConstraints(this);
 
-        Map<Character, Integer> charToNumResponsesIndicatingCharInWord = new HashMap<>();
-        Map<Character, Integer> charToNumResponsesIndicatingCharNotInWord = new HashMap<>();
-        for (int guessPosition = 0; guessPosition < constraints.wordLength; ++guessPosition) {
-            char guessCharacter = guess.charAt(guessPosition);
-            int guessCharOffset = guessCharacter - 'a';
-            PositionResponse responseAtPosition = response.get(guessPosition);
+        int inWordPositionsMask = 0;
+        int place = 1;
+        for (int guessPosition = 0; guessPosition < wordLength; guessPosition++, place *= POSITION_RESPONSES.length) {
+            int guessLetterBit = 1 << guess[guessPosition];
+            PositionResponse responseAtPosition = POSITION_RESPONSES[(pattern / place) % POSITION_RESPONSES.length];
             if (responseAtPosition == PositionResponse.IN_WORD_NOT_POSITION) {
-                constraints.characterToMinCountInWord[guessCharOffset] = Math.max(constraints.characterToMinCountInWord[guessCharOffset], 1);
-                constraints.positionToAllowedCharacters[guessPosition][guessCharOffset] = false;
-                charToNumResponsesIndicatingCharInWord.put(guessCharacter, charToNumResponsesIndicatingCharInWord.getOrDefault(guessCharacter, 0) + 1);
+                constraints.positionToAllowedLettersMask[guessPosition] &= ~guessLetterBit;
+                inWordPositionsMask |= 1 << guessPosition;
             } else if (responseAtPosition == PositionResponse.IN_POSITION) {
-                constraints.characterToMinCountInWord[guessCharOffset] = Math.max(constraints.characterToMinCountInWord[guessCharOffset], 1);
-                charToNumResponsesIndicatingCharInWord.put(guessCharacter, charToNumResponsesIndicatingCharInWord.getOrDefault(guessCharacter, 0) + 1);
-                for (char notAllowedOffset = 0; notAllowedOffset < 26; notAllowedOffset++) {
-                    if (notAllowedOffset == guessCharOffset) continue;
-                    constraints.positionToAllowedCharacters[guessPosition][notAllowedOffset] = false;
-                }
-            } else if (responseAtPosition == PositionResponse.NOT_IN_WORD) {
-                charToNumResponsesIndicatingCharNotInWord.put(guessCharacter, charToNumResponsesIndicatingCharNotInWord.getOrDefault(guessCharacter, 0) + 1);
-                constraints.positionToAllowedCharacters[guessPosition][guessCharOffset] = false;
+                constraints.positionToAllowedLettersMask[guessPosition] &= guessLetterBit;
+                inWordPositionsMask |= 1 << guessPosition;
             } else {
-                throw new IllegalStateException("response.get(" + guessPosition + ") is " + responseAtPosition + ", which is not a recognized response!");
+                constraints.positionToAllowedLettersMask[guessPosition] &= ~guessLetterBit;
             }
         }
 
-        for (int guessPosition = 0; guessPosition < constraints.wordLength; ++guessPosition) {
-            char guessChar = guess.charAt(guessPosition);
-            int guessCharOffset = guessChar - 'a';
-            int inWordCount = charToNumResponsesIndicatingCharInWord.getOrDefault(guessChar, 0);
-            int notInWordCount = charToNumResponsesIndicatingCharNotInWord.getOrDefault(guessChar, 0);
+        int handledLettersMask = 0;
+        for (int guessPosition = 0; guessPosition < wordLength; guessPosition++) {
+            int guessLetter = guess[guessPosition];
+            int guessLetterBit = 1 << guessLetter;
+            if ((handledLettersMask & guessLetterBit) != 0) continue;
+            handledLettersMask |= guessLetterBit;
+
+            int inWordCount = 0;
+            int notInWordCount = 0;
+            for (int otherPosition = guessPosition; otherPosition < wordLength; otherPosition++) {
+                if (guess[otherPosition] != guessLetter) continue;
+                if ((inWordPositionsMask & (1 << otherPosition)) != 0) {
+                    inWordCount++;
+                } else {
+                    notInWordCount++;
+                }
+            }
+
             if (inWordCount == 0 && notInWordCount > 0) {
-                for (int answerPosition = 0; answerPosition < constraints.wordLength; answerPosition++) {
-                    constraints.positionToAllowedCharacters[answerPosition][guessCharOffset] = false;
+                for (int answerPosition = 0; answerPosition < wordLength; answerPosition++) {
+                    constraints.positionToAllowedLettersMask[answerPosition] &= ~guessLetterBit;
+                }
+            } else if (inWordCount > 0) {
+                constraints.letterToMinCountInWord[guessLetter] = (byte) Math.max(constraints.letterToMinCountInWord[guessLetter], inWordCount);
+                constraints.countConstrainedLettersMask |= guessLetterBit;
+                if (notInWordCount > 0) {
+                    constraints.letterToMaxCountInWord[guessLetter] = (byte) Math.min(constraints.letterToMaxCountInWord[guessLetter], inWordCount);
                 }
-            } else if (inWordCount > 0 && notInWordCount == 0) {
-                constraints.characterToMinCountInWord[guessCharOffset] = Math.max(constraints.characterToMinCountInWord[guessCharOffset], inWordCount);
-            } else if (inWordCount > 0 && notInWordCount > 0) {
-                constraints.characterToMinCountInWord[guessCharOffset] = Math.max(constraints.characterToMinCountInWord[guessCharOffset], inWordCount);
-                constraints.characterToMaxCountInWord.put(guessChar, Math.min(constraints.characterToMaxCountInWord.getOrDefault(guessChar, Integer.MAX_VALUE), inWordCount));
             }
         }
 
@@ -95,28 +113,61 @@ public class WordConstraints {
             throw new IllegalArgumentException("word = " + word + " should have length wordLength = " + wordLength + ".");
         }
 
-        int[] characterToCount = new int[26];
-        for (int wordIndex = 0; wordIndex < word.length(); wordIndex++) {
+        for (int wordIndex = 0; wordIndex < wordLength; wordIndex++) {
             char c = word.charAt(wordIndex);
-            int cOffset = c - 'a';
-            if (!positionToAllowedCharacters[wordIndex][cOffset]) {
+            if (c < 'a' || c > 'z') {
+                throw new IllegalArgumentException("word = " + word + " must match regex `[a-z]+`!");
+            }
+            if ((positionToAllowedLettersMask[wordIndex] & (1 << (c - 'a'))) == 0) {
+                return false;
+            }
+        }
+        for (int remainingLetters = countConstrainedLettersMask; remainingLetters != 0; remainingLetters &= remainingLetters - 1) {
+            int letter = Integer.numberOfTrailingZeros(remainingLetters);
+            char c = (char) ('a' + letter);
+            int count = 0;
+            for (int wordIndex = 0; wordIndex < wordLength; wordIndex++) {
+                if (word.charAt(wordIndex) == c) count++;
+            }
+            if (count < letterToMinCountInWord[letter] || count > letterToMaxCountInWord[letter]) {
                 return false;
             }
-            characterToCount[cOffset]++;
         }
+        return true;
+    }
 
-        for (int charOffset = 0; charOffset < 26; charOffset++) {
-            if (characterToCount[charOffset] < characterToMinCountInWord[charOffset]) {
+    public boolean wordFitsConstraints(byte[] encodedWord) {
+        for (int wordIndex = 0; wordIndex < wordLength; wordIndex++) {
+            if ((positionToAllowedLettersMask[wordIndex] & (1 << encodedWord[wordIndex])) == 0) {
                 return false;
             }
         }
-        for (Character c : characterToMaxCountInWord.keySet()) {
-            int cOffset = c - 'a';
-            if (characterToCount[cOffset] > characterToMaxCountInWord.get(c)) {
+        for (int remainingLetters = countConstrainedLettersMask; remainingLetters != 0; remainingLetters &= remainingLetters - 1) {
+            int letter = Integer.numberOfTrailingZeros(remainingLetters);
+            int count = 0;
+            for (int wordIndex = 0; wordIndex < wordLength; wordIndex++) {
+                if (encodedWord[wordIndex] == letter) count++;
+            }
+            if (count < letterToMinCountInWord[letter] || count > letterToMaxCountInWord[letter]) {
                 return false;
             }
         }
+        return true;
+    }
 
+    public boolean wordFitsConstraints(long packedWord) {
+        for (int wordIndex = 0; wordIndex < wordLength; wordIndex++) {
+            if ((positionToAllowedLettersMask[wordIndex] & (1 << PackedWords.letterAt(packedWord, wordIndex))) == 0) {
+                return false;
+            }
+        }
+        for (int remainingLetters = countConstrainedLettersMask; remainingLetters != 0; remainingLetters &= remainingLetters - 1) {
+            int letter = Integer.numberOfTrailingZeros(remainingLetters);
+            int count = PackedWords.countLetter(packedWord, letter, wordLength);
+            if (count < letterToMinCountInWord[letter] || count > letterToMaxCountInWord[letter]) {
+                return false;
+            }
+        }
         return true;
     }
 
@@ -143,4 +194,16 @@ public class WordConstraints {
         return wordLength;
     }
 
+    int getAllowedLettersMask(int position) {
+        return positionToAllowedLettersMask[position];
+    }
+
+    int getMinCountInWord(int letter) {
+        return letterToMinCountInWord[letter];
+    }
+
+    int getMaxCountInWord(int letter) {
+        return letterToMaxCountInWord[letter];
+    }
+
 }
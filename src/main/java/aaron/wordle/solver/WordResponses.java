@@ -2,12 +2,12 @@ package aaron.wordle.solver;
 
 import aaron.wordle.game.PositionResponse;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
+import java.util.*;
 
 public class WordResponses implements Iterator<List<PositionResponse>> {
 
+    private static final PositionResponse[] POSITION_RESPONSES = PositionResponse.values();
+
     int wordLength;
     int responseNumber;
     int endOfResponseNumbers;
@@ -15,14 +15,39 @@ public class WordResponses implements Iterator<List<PositionResponse>> {
     private WordResponses(int wordLength) {
         this.wordLength = wordLength;
         this.responseNumber = 0;
-        this.endOfResponseNumbers = 1;
-        for (int position = 0; position < wordLength; position++) this.endOfResponseNumbers *= PositionResponse.values().length;
+        this.endOfResponseNumbers = FeedbackPatterns.numPatterns(wordLength);
     }
 
     public static WordResponses withLength(int wordLength) {
         return new WordResponses(wordLength);
     }
 
+    public static PrimitiveIterator.OfInt reachableFrom(byte[] guess, byte[][] remainingWords) {
+        int[] patterns = new int[remainingWords.length];
+        for (int wordIndex = 0; wordIndex < remainingWords.length; wordIndex++) {
+            patterns[wordIndex] = FeedbackPatterns.compute(guess, remainingWords[wordIndex]);
+        }
+        Arrays.sort(patterns);
+        int numDistinctPatterns = 0;
+        for (int pattern : patterns) {
+            if (numDistinctPatterns == 0 || patterns[numDistinctPatterns - 1] != pattern) {
+                patterns[numDistinctPatterns++] = pattern;
+            }
+        }
+        return Arrays.stream(patterns, 0, numDistinctPatterns).iterator();
+    }
+
+    public static PrimitiveIterator.OfInt reachableFrom(String guess, List<String> remainingWords) {
+        byte[][] encodedRemainingWords = new byte[remainingWords.size()][];
+        for (int wordIndex = 0; wordIndex < encodedRemainingWords.length; wordIndex++) {
+            if (remainingWords.get(wordIndex).length() != guess.length()) {
+                throw new IllegalArgumentException("guess and remainingWords do not match in length!");
+            }
+            encodedRemainingWords[wordIndex] = FeedbackPatterns.encode(remainingWords.get(wordIndex));
+        }
+        return reachableFrom(FeedbackPatterns.encode(guess), encodedRemainingWords);
+    }
+
     @Override
     public boolean hasNext() {
         return responseNumber < endOfResponseNumbers;
@@ -40,12 +65,12 @@ public class WordResponses implements Iterator<List<PositionResponse>> {
 
     private static List<PositionResponse> responseNumberToPositionResponses(int responseNumber, int wordLength) {
         List<PositionResponse> response = new ArrayList<>(wordLength);
-        while (response.size() < wordLength) response.add(PositionResponse.values()[0]);
+        while (response.size() < wordLength) response.add(POSITION_RESPONSES[0]);
         int place = 1;
-        int base = PositionResponse.values().length;
+        int base = POSITION_RESPONSES.length;
         for (int position = 0; position < response.size(); position++, place *= base) {
             int digit = (responseNumber / place) % base;
-            response.set(position, PositionResponse.values()[digit]);
+            response.set(position, POSITION_RESPONSES[digit]);
         }
         return response;
     }
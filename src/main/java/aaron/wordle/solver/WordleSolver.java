@@ -3,84 +3,312 @@ package aaron.wordle.solver;
 import aaron.wordle.game.PositionResponse;
 
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
 
-public class WordleSolver {
+public class WordleSolver implements Guesser {
+
+    public static final int DEFAULT_TRANSPOSITION_TABLE_SIZE = 1 << 16;
 
     public List<String> remainingWords;
     WordConstraints wordConstraints;
+    private final DictionaryIndex dictionaryIndex;
+    private BitSet remainingWordIds;
+    private final int parallelism;
+    private final ScoringStrategy scoringStrategy;
+    private GuessCache guessCache;
+    private boolean boundedScoring;
+    private SearchStatistics lastSearchStatistics;
+    private SolverListener solverListener;
+    private final StringBuilder history;
+    private int lookaheadDepth;
+    private int lookaheadMaxRemainingWords;
+    private LookaheadSearch lookaheadSearch;
+    private PatternTable pendingPatternTable;
+    private PatternTable previousPatternTable;
+    private GuessPool guessPool;
+    private BitSet remainingGuessIds;
+    private int[] wordIdToGuessId;
 
     public WordleSolver(List<String> dictionary) {
-        this.remainingWords = new ArrayList<>();
-        Set<String> wordsInDictionary = new HashSet<>();
-        for (String word : dictionary) {
-            if (!wordsInDictionary.contains(word)) {
-                this.remainingWords.add(word);
-                wordsInDictionary.add(word);
-            }
+        this(dictionary, 1);
+    }
+
+    public WordleSolver(List<String> dictionary, int parallelism) {
+        this(dictionary, parallelism, ScoringStrategy.MIN_MAX);
+    }
+
+    public WordleSolver(List<String> dictionary, int parallelism, ScoringStrategy scoringStrategy) {
+        this(indexDictionary(dictionary), parallelism, scoringStrategy);
+    }
+
+    public WordleSolver(DictionaryIndex dictionaryIndex, int parallelism, ScoringStrategy scoringStrategy) {
+        this(dictionaryIndex, parallelism, scoringStrategy, new SolverState(dictionaryIndex));
+    }
+
+    public WordleSolver(DictionaryIndex dictionaryIndex, int parallelism, ScoringStrategy scoringStrategy, SolverState solverState) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism = " + parallelism + " must be at least 1!");
         }
-        if (remainingWords.isEmpty()) {
+        this.parallelism = parallelism;
+        this.scoringStrategy = scoringStrategy;
+        this.dictionaryIndex = dictionaryIndex;
+        this.remainingWordIds = solverState.getRemainingWordIds();
+        this.remainingWords = remainingWordIds.cardinality() == dictionaryIndex.size() ? dictionaryIndex.getWords() : dictionaryIndex.getWords(remainingWordIds);
+        this.wordConstraints = solverState.getWordConstraints();
+        this.history = new StringBuilder(solverState.getHistory());
+        this.lookaheadDepth = 1;
+        this.boundedScoring = true;
+        this.lastSearchStatistics = new SearchStatistics();
+        this.solverListener = SolverListener.NO_OP;
+    }
+
+    public static DictionaryIndex indexDictionary(List<String> dictionary) {
+        if (dictionary.isEmpty()) {
             throw new IllegalArgumentException("dictionary must be non-empty!");
         }
         int wordLength = dictionary.get(0).length();
+        List<String> uniqueWords = new ArrayList<>();
+        Set<String> wordsInDictionary = new HashSet<>();
         for (String word : dictionary) {
             if (word.length() != wordLength) {
                 throw new IllegalArgumentException("dictionary words must be same length!");
             }
-            if (!word.matches("[a-z]+")) {
+            if (!isLowercaseWord(word)) {
                 throw new IllegalArgumentException("dictionary words must match regex `[a-z]+`!");
             }
+            if (wordsInDictionary.add(word)) {
+                uniqueWords.add(word);
+            }
         }
-        this.wordConstraints = new WordConstraints(wordLength);
+        return new DictionaryIndex(uniqueWords);
     }
 
+    public static boolean isLowercaseWord(String word) {
+        if (word.isEmpty()) {
+            return false;
+        }
+        for (int position = 0; position < word.length(); position++) {
+            char letter = word.charAt(position);
+            if (letter < 'a' || letter > 'z') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
     public String nextGuess() {
-        int minMaxNumRemainingGuesses = Integer.MAX_VALUE;
-        String wordWithMinMaxNumRemainingGuesses = null;
-        long startTimeMillis = System.currentTimeMillis();
-        int numProcessed = 0;
-        for (String word : remainingWords) {
-            int maxNumRemainingGuesses = Integer.MIN_VALUE;
-            Iterator<List<PositionResponse>> wordResponseIterator = WordResponses.withLength(wordConstraints.getWordLength());
-            while (wordResponseIterator.hasNext()) {
-                List<PositionResponse> potentialResponse = wordResponseIterator.next();
-                WordConstraints wordConstraintsAfterGuessAndResponse = wordConstraints.updateFromGuess(word, potentialResponse);
-                if (wordConstraintsAfterGuessAndResponse == null) continue;
-                int numRemainingGuesses = 0;
-                for (String remainingGuess : remainingWords) {
-                    if (wordConstraintsAfterGuessAndResponse.wordFitsConstraints(remainingGuess)) {
-                        numRemainingGuesses++;
-                    }
-                }
-                if (numRemainingGuesses > maxNumRemainingGuesses) {
-                    maxNumRemainingGuesses = numRemainingGuesses;
+        return nextGuess(() -> false).getGuess();
+    }
+
+    public GuessResult nextGuess(long timeBudget, TimeUnit timeUnit) {
+        long deadlineNanos = System.nanoTime() + timeUnit.toNanos(timeBudget);
+        return nextGuess(() -> System.nanoTime() - deadlineNanos >= 0);
+    }
+
+    public GuessResult nextGuess(BooleanSupplier stopRequested) {
+        long startNanos = System.nanoTime();
+        PatternTable previous = previousPatternTable;
+        previousPatternTable = null;
+        pendingPatternTable = null;
+        if (guessCache != null) {
+            Optional<String> cachedGuess = guessCache.get(cacheKey());
+            if (cachedGuess.isPresent()) {
+                lastSearchStatistics = new SearchStatistics();
+                GuessResult guessResult = new GuessResult(cachedGuess.get(), true, lastSearchStatistics);
+                solverListener.onNextGuess(guessResult, remainingWords.size(), System.nanoTime() - startNanos);
+                return guessResult;
+            }
+        }
+        byte[][] encodedRemainingWords = dictionaryIndex.getEncodedWords(remainingWordIds);
+        lastSearchStatistics = new SearchStatistics();
+        ScoredGuess best;
+        int[] candidateOrder;
+        int[] poolGuessIds = new int[0];
+        if (lookaheadDepth > 1 && encodedRemainingWords.length <= lookaheadMaxRemainingWords) {
+            candidateOrder = GuessScoringTask.orderByLetterCoverage(encodedRemainingWords);
+            int[] wordIds = remainingWordIds.stream().toArray();
+            best = lookaheadSearch.search(wordIds, candidateOrder, lookaheadDepth, stopRequested, lastSearchStatistics);
+        } else {
+            byte[][] encodedGuesses = encodedRemainingWords;
+            if (guessPool != null && encodedRemainingWords.length > 2) {
+                poolGuessIds = selectPoolGuesses(encodedRemainingWords);
+                encodedGuesses = Arrays.copyOf(encodedRemainingWords, encodedRemainingWords.length + poolGuessIds.length);
+                for (int poolGuess = 0; poolGuess < poolGuessIds.length; poolGuess++) {
+                    encodedGuesses[encodedRemainingWords.length + poolGuess] = guessPool.getAllowedGuesses().getEncodedWord(poolGuessIds[poolGuess]);
                 }
             }
-            if (maxNumRemainingGuesses < minMaxNumRemainingGuesses && maxNumRemainingGuesses > 0) {
-                wordWithMinMaxNumRemainingGuesses = word;
-                minMaxNumRemainingGuesses = maxNumRemainingGuesses;
+            candidateOrder = GuessScoringTask.orderByLetterCoverage(encodedGuesses, encodedRemainingWords);
+            PatternTable turnPatternTable = poolGuessIds.length > 0 ? null : newPatternTable(previous);
+            PatternComputer patternComputer = GuessScoringTask.newPatternComputer(encodedRemainingWords);
+            if (parallelism > 1) {
+                best = scoreGuessesInParallel(encodedGuesses, encodedRemainingWords, candidateOrder, stopRequested, turnPatternTable, patternComputer);
+            } else {
+                best = scoreGuesses(encodedGuesses, encodedRemainingWords, candidateOrder, stopRequested, turnPatternTable, patternComputer, startNanos);
             }
-            numProcessed++;
-            if (numProcessed % 100 == 0) {
-                long endTimeMillis = System.currentTimeMillis();
-                double timeSpent = ((double) (endTimeMillis - startTimeMillis) / 1000);
-                double timeToProcessOneGuess = timeSpent/numProcessed;
-                double remainingTime = timeToProcessOneGuess * (remainingWords.size() - numProcessed);
-                System.console().printf("Estimated remaining time to guess: " + remainingTime + " seconds.\n");
+            if (turnPatternTable != null) {
+                turnPatternTable.releasePrevious();
             }
+            pendingPatternTable = turnPatternTable;
+        }
+        boolean complete = lastSearchStatistics.getNumCandidatesScored() + lastSearchStatistics.getNumCandidatesPruned() == candidateOrder.length;
+        int bestWordIndex = best.wordIndex < 0 && candidateOrder.length > 0 ? candidateOrder[0] : best.wordIndex;
+        String guess;
+        if (bestWordIndex < 0) {
+            guess = null;
+        } else if (bestWordIndex < encodedRemainingWords.length) {
+            guess = remainingWords.get(bestWordIndex);
+        } else {
+            guess = guessPool.getAllowedGuesses().getWord(poolGuessIds[bestWordIndex - encodedRemainingWords.length]);
+        }
+        if (guessCache != null && guess != null && complete) {
+            guessCache.put(cacheKey(), guess);
+        }
+        GuessResult guessResult = new GuessResult(guess, complete, lastSearchStatistics);
+        solverListener.onNextGuess(guessResult, encodedRemainingWords.length, System.nanoTime() - startNanos);
+        return guessResult;
+    }
+
+    private int[] selectPoolGuesses(byte[][] encodedRemainingWords) {
+        BitSet guessIds = (BitSet) remainingGuessIds.clone();
+        for (int wordId = remainingWordIds.nextSetBit(0); wordId >= 0; wordId = remainingWordIds.nextSetBit(wordId + 1)) {
+            if (wordIdToGuessId[wordId] >= 0) {
+                guessIds.clear(wordIdToGuessId[wordId]);
+            }
+        }
+        return guessPool.selectCandidates(guessIds, encodedRemainingWords);
+    }
+
+    private PatternTable newPatternTable(PatternTable previous) {
+        if (remainingWords.size() > PatternTable.MAX_NUM_WORDS
+                || FeedbackPatterns.numPatterns(getWordLength()) > GuessScorer.MAX_NUM_COUNTED_PATTERNS) {
+            return null;
         }
-        return wordWithMinMaxNumRemainingGuesses;
+        return new PatternTable(remainingWordIds.stream().toArray(), previous);
     }
 
+    private ScoredGuess scoreGuessesInParallel(byte[][] encodedGuesses, byte[][] encodedRemainingWords, int[] candidateOrder,
+                                               BooleanSupplier stopRequested, PatternTable turnPatternTable, PatternComputer patternComputer) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.invoke(new GuessScoringTask(encodedGuesses, encodedRemainingWords, candidateOrder, scoringStrategy, boundedScoring,
+                    stopRequested, lastSearchStatistics, turnPatternTable, patternComputer, 0, encodedGuesses.length));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private ScoredGuess scoreGuesses(byte[][] encodedGuesses, byte[][] encodedRemainingWords, int[] candidateOrder,
+                                     BooleanSupplier stopRequested, PatternTable turnPatternTable, PatternComputer patternComputer, long startNanos) {
+        ScoredGuess best = ScoredGuess.NONE;
+        for (int startCandidate = 0; startCandidate < encodedGuesses.length && !stopRequested.getAsBoolean(); startCandidate += 100) {
+            int numProcessed = Math.min(startCandidate + 100, encodedGuesses.length);
+            best = GuessScoringTask.scoreCandidates(encodedGuesses, encodedRemainingWords, candidateOrder, startCandidate, numProcessed, scoringStrategy, boundedScoring, best,
+                    stopRequested, lastSearchStatistics, turnPatternTable, patternComputer);
+            solverListener.onSearchProgress(numProcessed, encodedGuesses.length, System.nanoTime() - startNanos);
+        }
+        return best;
+    }
+
+    @Override
     public void updateFromGuess(String guess, List<PositionResponse> response) {
-        wordConstraints = wordConstraints.updateFromGuess(guess, response);
-        remainingWords = remainingWords.stream().filter(wordConstraints::wordFitsConstraints).collect(Collectors.toList());
+        long startNanos = System.nanoTime();
+        wordConstraints = SolverState.updateConstraints(wordConstraints, guess, response);
+        history.append(SolverState.historyEntry(guess, response));
+        int numWordsChecked = remainingWords.size();
+        remainingWordIds = dictionaryIndex.filter(wordConstraints, remainingWordIds);
+        remainingWords = dictionaryIndex.getWords(remainingWordIds);
+        previousPatternTable = pendingPatternTable;
+        pendingPatternTable = null;
+        if (guessPool != null) {
+            remainingGuessIds = guessPool.filter(wordConstraints, remainingGuessIds);
+        }
+        solverListener.onUpdateFromGuess(guess, numWordsChecked, remainingWords.size(), System.nanoTime() - startNanos);
+    }
+
+    private String cacheKey() {
+        String prefix = scoringStrategy.getName();
+        if (lookaheadDepth > 1) {
+            prefix += "+lookahead" + lookaheadDepth + "<=" + lookaheadMaxRemainingWords;
+        }
+        if (guessPool != null) {
+            prefix += (guessPool.isHardMode() ? "+hardpool" : "+pool") + guessPool.getAllowedGuesses().size() + "<=" + guessPool.getMaxCandidates();
+        }
+        return prefix + "|" + history;
     }
 
     public List<String> getRemainingWords() {
         return new ArrayList<>(remainingWords);
     }
 
+    public List<String> getAllowedGuesses() {
+        if (guessPool == null) {
+            return getRemainingWords();
+        }
+        return new ArrayList<>(guessPool.getAllowedGuesses().getWords(remainingGuessIds));
+    }
+
+    public void setGuessPool(GuessPool guessPool) {
+        if (guessPool != null && guessPool.getAllowedGuesses().getWordLength() != getWordLength()) {
+            throw new IllegalArgumentException("guessPool words must have length wordLength = " + getWordLength() + "!");
+        }
+        this.guessPool = guessPool;
+        if (guessPool == null) {
+            remainingGuessIds = null;
+            wordIdToGuessId = null;
+            return;
+        }
+        remainingGuessIds = guessPool.filter(wordConstraints, guessPool.getAllowedGuesses().allWordIds());
+        Map<String, Integer> wordToGuessId = new HashMap<>();
+        for (int guessId = 0; guessId < guessPool.getAllowedGuesses().size(); guessId++) {
+            wordToGuessId.put(guessPool.getAllowedGuesses().getWord(guessId), guessId);
+        }
+        wordIdToGuessId = new int[dictionaryIndex.size()];
+        for (int wordId = 0; wordId < wordIdToGuessId.length; wordId++) {
+            wordIdToGuessId[wordId] = wordToGuessId.getOrDefault(dictionaryIndex.getWord(wordId), -1);
+        }
+    }
+
+    public void setGuessCache(GuessCache guessCache) {
+        this.guessCache = guessCache;
+    }
+
+    public void setSolverListener(SolverListener solverListener) {
+        this.solverListener = solverListener == null ? SolverListener.NO_OP : solverListener;
+    }
+
+    public void setLookahead(int lookaheadDepth, int lookaheadMaxRemainingWords) {
+        setLookahead(lookaheadDepth, lookaheadMaxRemainingWords, DEFAULT_TRANSPOSITION_TABLE_SIZE);
+    }
+
+    public void setLookahead(int lookaheadDepth, int lookaheadMaxRemainingWords, int maxTranspositionTableSize) {
+        if (lookaheadDepth < 1) {
+            throw new IllegalArgumentException("lookaheadDepth = " + lookaheadDepth + " must be at least 1!");
+        }
+        this.lookaheadDepth = lookaheadDepth;
+        this.lookaheadMaxRemainingWords = lookaheadMaxRemainingWords;
+        this.lookaheadSearch = lookaheadDepth > 1 ? new LookaheadSearch(dictionaryIndex, scoringStrategy, maxTranspositionTableSize) : null;
+    }
+
+    public void setBoundedScoring(boolean boundedScoring) {
+        this.boundedScoring = boundedScoring;
+    }
+
+    public SearchStatistics getLastSearchStatistics() {
+        return lastSearchStatistics;
+    }
+
+    public ScoringStrategy getScoringStrategy() {
+        return scoringStrategy;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
     public int getWordLength() {
         return wordConstraints.getWordLength();
     }
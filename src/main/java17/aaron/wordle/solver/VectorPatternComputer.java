@@ -0,0 +1,83 @@
+package aaron.wordle.solver;
+
+import aaron.wordle.game.PositionResponse;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+class VectorPatternComputer extends PatternComputer {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final int NOT_IN_WORD_DIGIT = PositionResponse.NOT_IN_WORD.ordinal();
+    private static final int IN_WORD_NOT_POSITION_DIGIT = PositionResponse.IN_WORD_NOT_POSITION.ordinal();
+    private static final int IN_POSITION_DIGIT = PositionResponse.IN_POSITION.ordinal();
+
+    private final int wordLength;
+    private final int[][] lettersByPosition;
+    private final int[] places;
+    private final int allNotInWordPattern;
+
+    VectorPatternComputer(byte[][] answers, int numAnswers) {
+        super(answers, numAnswers);
+        this.wordLength = numAnswers == 0 ? 0 : answers[0].length;
+        int paddedNumAnswers = SPECIES.loopBound(numAnswers + SPECIES.length() - 1) + SPECIES.length();
+        this.lettersByPosition = new int[wordLength][paddedNumAnswers];
+        for (int position = 0; position < wordLength; position++) {
+            for (int answerIndex = 0; answerIndex < numAnswers; answerIndex++) {
+                lettersByPosition[position][answerIndex] = answers[answerIndex][position];
+            }
+        }
+        this.places = new int[wordLength];
+        int allNotInWordPattern = 0;
+        for (int position = 0, place = 1; position < wordLength; position++, place *= PositionResponse.values().length) {
+            places[position] = place;
+            allNotInWordPattern += place * NOT_IN_WORD_DIGIT;
+        }
+        this.allNotInWordPattern = allNotInWordPattern;
+    }
+
+    @Override
+    public void compute(byte[] guess, int[] patterns, int startAnswer, int endAnswer) {
+        IntVector zero = IntVector.zero(SPECIES);
+        for (; startAnswer < endAnswer; startAnswer += SPECIES.length()) {
+            IntVector pattern = IntVector.broadcast(SPECIES, allNotInWordPattern);
+            IntVector inPositionPositions = zero;
+            for (int position = 0; position < wordLength; position++) {
+                VectorMask<Integer> inPosition = IntVector.fromArray(SPECIES, lettersByPosition[position], startAnswer).eq(guess[position]);
+                inPositionPositions = inPositionPositions.or(zero.blend(1 << position, inPosition));
+                pattern = pattern.add(zero.blend(places[position] * (IN_POSITION_DIGIT - NOT_IN_WORD_DIGIT), inPosition));
+            }
+
+            for (int guessPosition = 0; guessPosition < wordLength; guessPosition++) {
+                VectorMask<Integer> notInPosition = inPositionPositions.and(1 << guessPosition).eq(0);
+                if (!notInPosition.anyTrue()) continue;
+                IntVector numUnmatched = zero;
+                for (int answerPosition = 0; answerPosition < wordLength; answerPosition++) {
+                    VectorMask<Integer> unmatchedLetter = IntVector.fromArray(SPECIES, lettersByPosition[answerPosition], startAnswer).eq(guess[guessPosition])
+                            .and(inPositionPositions.and(1 << answerPosition).eq(0));
+                    numUnmatched = numUnmatched.add(zero.blend(1, unmatchedLetter));
+                }
+                for (int earlierPosition = 0; earlierPosition < guessPosition; earlierPosition++) {
+                    if (guess[earlierPosition] == guess[guessPosition]) {
+                        numUnmatched = numUnmatched.sub(zero.blend(1, inPositionPositions.and(1 << earlierPosition).eq(0)));
+                    }
+                }
+                VectorMask<Integer> inWordNotPosition = numUnmatched.compare(VectorOperators.GT, 0).and(notInPosition);
+                pattern = pattern.add(zero.blend(places[guessPosition] * (IN_WORD_NOT_POSITION_DIGIT - NOT_IN_WORD_DIGIT), inWordNotPosition));
+            }
+
+            if (startAnswer + SPECIES.length() <= endAnswer) {
+                pattern.intoArray(patterns, startAnswer);
+            } else {
+                pattern.intoArray(patterns, startAnswer, SPECIES.indexInRange(startAnswer, endAnswer));
+            }
+        }
+    }
+
+    @Override
+    public String getBackend() {
+        return VECTOR;
+    }
+
+}
@@ -0,0 +1,105 @@
+package aaron.wordle.game;
+
+import aaron.wordle.solver.DictionaryIndex;
+import aaron.wordle.solver.FeedbackPatterns;
+import aaron.wordle.solver.ScoringStrategy;
+import aaron.wordle.solver.WordleSolver;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.*;
+import java.util.stream.Collectors;
+
+public class TranscriptReplayerTest {
+
+    private static final List<String> DICTIONARY = Arrays.asList("cat", "cad", "car", "fox", "box", "cox", "cab", "fax", "tax", "bat");
+
+    private static String transcriptLine(String guess, String answer) {
+        return guess + " " + FeedbackPatterns.toPositionResponses(FeedbackPatterns.compute(guess, answer), answer.length()).stream()
+                .map(PositionResponse::getColor).collect(Collectors.joining(" "));
+    }
+
+    private static String transcript(List<List<String>> games, List<String> answers) {
+        StringBuilder transcript = new StringBuilder();
+        for (int game = 0; game < games.size(); game++) {
+            for (String guess : games.get(game)) {
+                transcript.append(transcriptLine(guess, answers.get(game))).append('\n');
+            }
+        }
+        return transcript.toString();
+    }
+
+    @Test
+    public void testReplayMatchesSolver() {
+        List<List<String>> games = Arrays.asList(Arrays.asList("fox", "cat", "cab"), Arrays.asList("fox", "cat", "car"),
+                Arrays.asList("fox", "box"), Arrays.asList("tax", "bat"), Arrays.asList("fox", "cat", "cab"));
+        List<String> answers = Arrays.asList("cab", "car", "box", "bat", "cab");
+        DictionaryIndex dictionaryIndex = WordleSolver.indexDictionary(DICTIONARY);
+        StringWriter output = new StringWriter();
+        TranscriptReplayer.Result result = new TranscriptReplayer(dictionaryIndex, ScoringStrategy.MIN_MAX, 3)
+                .replay(new BufferedReader(new StringReader(transcript(games, answers))), output);
+
+        Assertions.assertEquals(5, result.getNumGames());
+        Assertions.assertEquals(13, result.getNumSteps());
+        Assertions.assertEquals(result.getNumSteps(), result.getNumMemoHits() + result.getNumMemoMisses());
+        Assertions.assertTrue(result.getNumMemoHits() >= 5);
+        List<String[]> rows = Arrays.stream(output.toString().split("\n")).map(row -> row.split("\t")).collect(Collectors.toList());
+        Assertions.assertEquals(13, rows.size());
+        for (String[] row : rows) {
+            int game = Integer.parseInt(row[0]);
+            int step = Integer.parseInt(row[1]);
+            WordleSolver solver = new WordleSolver(DICTIONARY);
+            for (String guess : games.get(game).subList(0, step - 1)) {
+                solver.updateFromGuess(guess, FeedbackPatterns.toPositionResponses(FeedbackPatterns.compute(guess, answers.get(game)), 3));
+            }
+            Assertions.assertEquals(games.get(game).get(step - 1), row[2]);
+            Assertions.assertEquals(solver.nextGuess(), row[3]);
+            solver.updateFromGuess(row[2], FeedbackPatterns.toPositionResponses(FeedbackPatterns.compute(row[2], answers.get(game)), 3));
+            Assertions.assertEquals(solver.getRemainingWords().size(), Integer.parseInt(row[4]));
+        }
+    }
+
+    @Test
+    public void testGamesSeparatedByBlankLines() {
+        String transcript = transcriptLine("fox", "cab") + "\n" + transcriptLine("cat", "cab") + "\n\n\n"
+                + transcriptLine("fox", "bat") + "\n";
+        StringWriter output = new StringWriter();
+        TranscriptReplayer.Result result = new TranscriptReplayer(WordleSolver.indexDictionary(DICTIONARY), ScoringStrategy.MIN_MAX, 1)
+                .replay(new BufferedReader(new StringReader(transcript)), output);
+
+        Assertions.assertEquals(2, result.getNumGames());
+        Assertions.assertEquals(3, result.getNumSteps());
+        Assertions.assertEquals(1, result.getNumMemoHits());
+    }
+
+    @Test
+    public void testInvalidLineIsRejected() {
+        String transcript = transcriptLine("fox", "cab") + "\n" + "cat green purple gray\n";
+        TranscriptReplayer replayer = new TranscriptReplayer(WordleSolver.indexDictionary(DICTIONARY), ScoringStrategy.MIN_MAX, 2);
+        IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> replayer.replay(new BufferedReader(new StringReader(transcript)), new StringWriter()));
+        Assertions.assertTrue(exception.getMessage().startsWith("line 2 "));
+    }
+
+    @Test
+    public void testNonLetterGuessIsRejected() {
+        String transcript = transcriptLine("fox", "cab") + "\n" + "c4t gray gray gray\n";
+        TranscriptReplayer replayer = new TranscriptReplayer(WordleSolver.indexDictionary(DICTIONARY), ScoringStrategy.MIN_MAX, 2);
+        IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> replayer.replay(new BufferedReader(new StringReader(transcript)), new StringWriter()));
+        Assertions.assertTrue(exception.getMessage().startsWith("line 2 "));
+    }
+
+    @Test
+    public void testInconsistentLineIsRejected() {
+        String transcript = transcriptLine("fox", "cab") + "\n\n" + transcriptLine("cat", "car") + "\n" + "aab gray yellow gray\n";
+        TranscriptReplayer replayer = new TranscriptReplayer(WordleSolver.indexDictionary(DICTIONARY), ScoringStrategy.MIN_MAX, 2);
+        IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> replayer.replay(new BufferedReader(new StringReader(transcript)), new StringWriter()));
+        Assertions.assertTrue(exception.getMessage().startsWith("line 4 "));
+    }
+
+}
@@ -0,0 +1,158 @@
+package aaron.wordle.game;
+
+import aaron.wordle.solver.ScoringStrategy;
+import aaron.wordle.solver.WordleSolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Scanner;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class WordleServerTest {
+
+    private static final List<String> DICTIONARY = Arrays.asList("cat", "cad", "car", "fox", "box", "cox", "cab");
+
+    private WordleServer server;
+    private String baseUrl;
+
+    @BeforeEach
+    public void startServer() {
+        server = new WordleServer(DICTIONARY, ScoringStrategy.MIN_MAX, 0, 2);
+        server.start();
+        baseUrl = "http://localhost:" + server.getPort();
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.stop();
+    }
+
+    @Test
+    public void testPlayGameOverHttp() throws IOException {
+        String sessionId = request("POST", baseUrl + "/sessions", null, 201);
+        Assertions.assertEquals(1, server.getNumSessions());
+        Assertions.assertEquals("cat", request("GET", baseUrl + "/sessions/" + sessionId + "/guess", null, 200));
+        Assertions.assertEquals("3", request("POST", baseUrl + "/sessions/" + sessionId + "/response", "cat green green gray", 200));
+        Assertions.assertEquals("1", request("POST", baseUrl + "/sessions/" + sessionId + "/response", "cab green green green", 200));
+        Assertions.assertEquals(0, server.getNumSessions());
+        request("GET", baseUrl + "/sessions/" + sessionId + "/guess", null, 404);
+    }
+
+    @Test
+    public void testInvalidRequests() throws IOException {
+        String sessionId = request("POST", baseUrl + "/sessions", null, 201);
+        request("POST", baseUrl + "/sessions/" + sessionId + "/response", "cad green purple gray", 400);
+        request("POST", baseUrl + "/sessions/" + sessionId + "/response", "cad green", 400);
+        request("GET", baseUrl + "/sessions/abc/guess", null, 400);
+        request("PUT", baseUrl + "/sessions/" + sessionId + "/guess", null, 405);
+        request("DELETE", baseUrl + "/sessions/" + sessionId, null, 200);
+        Assertions.assertEquals(0, server.getNumSessions());
+    }
+
+    @Test
+    public void testLoadGeneratorPlaysEverySession() {
+        WordleLoadGenerator.Result result = new WordleLoadGenerator(baseUrl, 4).run(Collections.nCopies(5, "box"));
+        Assertions.assertEquals(5, result.getNumSessions());
+        Assertions.assertTrue(result.getNumRequests() >= 5 * 3);
+        Assertions.assertEquals(0, server.getNumSessions());
+    }
+
+    @Test
+    public void testInconsistentResponseIsRejectedAndSessionStillWorks() throws IOException {
+        String sessionId = request("POST", baseUrl + "/sessions", null, 201);
+        request("POST", baseUrl + "/sessions/" + sessionId + "/response", "aab gray yellow gray", 400);
+        request("POST", baseUrl + "/sessions/" + sessionId + "/response", "c4t gray gray gray", 400);
+        Assertions.assertEquals("cat", request("GET", baseUrl + "/sessions/" + sessionId + "/guess", null, 200));
+        Assertions.assertEquals("3", request("POST", baseUrl + "/sessions/" + sessionId + "/response", "cat green green gray", 200));
+    }
+
+    @Test
+    public void testIdleSessionsAreEvicted() throws IOException, InterruptedException {
+        WordleServer idleServer = new WordleServer(WordleSolver.indexDictionary(DICTIONARY), ScoringStrategy.MIN_MAX, 0, 2, 50);
+        idleServer.start();
+        try {
+            String idleBaseUrl = "http://localhost:" + idleServer.getPort();
+            String sessionId = request("POST", idleBaseUrl + "/sessions", null, 201);
+            for (long deadline = System.currentTimeMillis() + 5000; idleServer.getNumSessions() > 0 && System.currentTimeMillis() < deadline; ) {
+                Thread.sleep(10);
+            }
+            Assertions.assertEquals(0, idleServer.getNumSessions());
+            request("GET", idleBaseUrl + "/sessions/" + sessionId + "/guess", null, 404);
+        } finally {
+            idleServer.stop();
+        }
+    }
+
+    @Test
+    public void testActiveSessionsAreNotEvicted() throws IOException {
+        String sessionId = request("POST", baseUrl + "/sessions", null, 201);
+        Assertions.assertEquals(0, server.evictIdleSessions());
+        Assertions.assertEquals("cat", request("GET", baseUrl + "/sessions/" + sessionId + "/guess", null, 200));
+    }
+
+    @Test
+    public void testFullQueueRejectsInsteadOfRunningOnCaller() {
+        assertRejectsThirdRequest(WordleServer.newSessionExecutor(1, 1));
+    }
+
+    @Test
+    public void testAdmissionLimitRejectsOnUnboundedExecutor() {
+        assertRejectsThirdRequest(WordleServer.limitAdmissions(Executors.newCachedThreadPool(), 2));
+    }
+
+    private static void assertRejectsThirdRequest(ExecutorService executor) {
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable blockedRequest = () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        try {
+            executor.execute(blockedRequest);
+            executor.execute(blockedRequest);
+            AtomicBoolean rejected = new AtomicBoolean();
+            executor.execute(() -> rejected.set(WordleServer.isOverloaded()));
+            Assertions.assertTrue(rejected.get());
+            Assertions.assertFalse(WordleServer.isOverloaded());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    private static String request(String method, String url, String body, int expectedStatusCode) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        connection.setRequestMethod(method);
+        if (body != null) {
+            connection.setDoOutput(true);
+            try (OutputStream outputStream = connection.getOutputStream()) {
+                outputStream.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        Assertions.assertEquals(expectedStatusCode, connection.getResponseCode());
+        try (InputStream inputStream = expectedStatusCode < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+            if (inputStream == null) {
+                return "";
+            }
+            Scanner scanner = new Scanner(inputStream, "UTF-8").useDelimiter("\\A");
+            return scanner.hasNext() ? scanner.next() : "";
+        }
+    }
+
+}
@@ -0,0 +1,56 @@
+package aaron.wordle.game;
+
+import aaron.wordle.solver.GuessCache;
+import aaron.wordle.solver.GuessPool;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class WordleSimulatorTest {
+
+    @Test
+    public void testSimulateWithAndWithoutCache() {
+        List<String> dictionary = Arrays.asList("cat", "cad", "car", "fox", "box", "cox", "cab");
+        WordleSimulator.Result uncached = new WordleSimulator(dictionary, 2, null).simulate(dictionary);
+        WordleSimulator.Result cached = new WordleSimulator(dictionary, 2, new GuessCache()).simulate(dictionary);
+
+        Assertions.assertEquals(dictionary.size(), uncached.getNumGames());
+        Assertions.assertEquals(uncached.getNumGuessesToNumGames(), cached.getNumGuessesToNumGames());
+        Assertions.assertEquals(Integer.valueOf(1), uncached.getNumGuessesToNumGames().get(1));
+        Assertions.assertEquals(0, uncached.getNumFailures());
+    }
+
+    @Test
+    public void testSimulateMultipleBoards() {
+        List<String> dictionary = Arrays.asList("cat", "cad", "car", "fox", "box", "cox", "cab", "fax");
+        WordleSimulator simulator = new WordleSimulator(dictionary, 2, new GuessCache());
+        simulator.setNumBoards(4);
+        WordleSimulator.Result result = simulator.simulate(dictionary);
+
+        Assertions.assertEquals(2, result.getNumGames());
+        Assertions.assertEquals(0, result.getNumFailures());
+        Assertions.assertTrue(result.getAverageNumGuesses() >= 4);
+    }
+
+    @Test
+    public void testSimulateWithHardModeGuessPool() {
+        List<String> dictionary = Arrays.asList("cat", "cad", "car", "fox", "box", "cox", "cab");
+        WordleSimulator simulator = new WordleSimulator(dictionary, 2, new GuessCache());
+        simulator.setGuessPool(new GuessPool(Arrays.asList("cat", "cad", "car", "fox", "box", "cox", "cab", "bdr", "frx"), true));
+        WordleSimulator.Result result = simulator.simulate(dictionary);
+
+        Assertions.assertEquals(dictionary.size(), result.getNumGames());
+        Assertions.assertEquals(0, result.getNumFailures());
+    }
+
+    @Test
+    public void testAnswersThatDoNotFillBoardsAreRejected() {
+        List<String> dictionary = Arrays.asList("cat", "cad", "car", "fox", "box");
+        WordleSimulator simulator = new WordleSimulator(dictionary, 1, null);
+        simulator.setNumBoards(2);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> simulator.simulate(dictionary));
+    }
+
+}
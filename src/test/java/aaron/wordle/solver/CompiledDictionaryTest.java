@@ -0,0 +1,78 @@
+package aaron.wordle.solver;
+
+import aaron.wordle.game.PositionResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+public class CompiledDictionaryTest {
+
+    @TempDir
+    Path dictionaryDirectory;
+
+    @Test
+    public void testCompileAndLoadRoundTrip() {
+        List<String> dictionary = Arrays.asList("fox", "cad", "car", "cad", "cat", "box", "cox");
+        Path pathToCompiledDictionary = dictionaryDirectory.resolve("dictionary.bin");
+        CompiledDictionary.compile(dictionary, pathToCompiledDictionary);
+
+        Assertions.assertTrue(CompiledDictionary.isCompiledDictionary(pathToCompiledDictionary));
+        DictionaryIndex dictionaryIndex = CompiledDictionary.load(pathToCompiledDictionary);
+        Assertions.assertEquals(Arrays.asList("fox", "cad", "car", "cat", "box", "cox"), dictionaryIndex.getWords());
+        Assertions.assertEquals(3, dictionaryIndex.getWordLength());
+        BitSet wordIds = dictionaryIndex.filter(new WordConstraints(3).updateFromGuess("cad", Arrays.asList(
+                PositionResponse.IN_POSITION, PositionResponse.IN_POSITION, PositionResponse.NOT_IN_WORD)),
+                dictionaryIndex.allWordIds());
+        Assertions.assertEquals(Arrays.asList("car", "cat"), dictionaryIndex.getWords(wordIds));
+        Assertions.assertEquals(new WordleSolver(dictionary).nextGuess(), new WordleSolver(dictionaryIndex, 1, ScoringStrategy.MIN_MAX).nextGuess());
+    }
+
+    @Test
+    public void testLoadPackedRoundTrip() {
+        List<String> dictionary = Arrays.asList("foxes", "cadet", "cards", "foxes", "zebra");
+        Path pathToCompiledDictionary = dictionaryDirectory.resolve("dictionary.bin");
+        CompiledDictionary.compile(dictionary, pathToCompiledDictionary);
+        for (boolean offHeap : new boolean[]{false, true}) {
+            DictionaryIndex dictionaryIndex = CompiledDictionary.loadPacked(pathToCompiledDictionary, offHeap);
+            Assertions.assertTrue(dictionaryIndex.isPacked());
+            Assertions.assertEquals(Arrays.asList("foxes", "cadet", "cards", "zebra"), dictionaryIndex.getWords());
+            Assertions.assertArrayEquals(FeedbackPatterns.encode("zebra"), dictionaryIndex.getEncodedWord(3));
+        }
+    }
+
+    @Test
+    public void testLoadRejectsCorruptedLetters() throws IOException {
+        Path pathToCompiledDictionary = dictionaryDirectory.resolve("dictionary.bin");
+        CompiledDictionary.compile(Arrays.asList("fox", "cad"), pathToCompiledDictionary);
+        byte[] contents = Files.readAllBytes(pathToCompiledDictionary);
+        contents[contents.length - 1] = (byte) ((contents[contents.length - 1] + 1) % 26);
+        Files.write(pathToCompiledDictionary, contents);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CompiledDictionary.load(pathToCompiledDictionary));
+    }
+
+    @Test
+    public void testLoadRejectsTruncatedFile() throws IOException {
+        Path pathToCompiledDictionary = dictionaryDirectory.resolve("dictionary.bin");
+        CompiledDictionary.compile(Arrays.asList("fox", "cad"), pathToCompiledDictionary);
+        byte[] contents = Files.readAllBytes(pathToCompiledDictionary);
+        Files.write(pathToCompiledDictionary, Arrays.copyOf(contents, contents.length - 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CompiledDictionary.load(pathToCompiledDictionary));
+    }
+
+    @Test
+    public void testTextDictionaryIsNotCompiled() throws IOException {
+        Path pathToDictionary = dictionaryDirectory.resolve("dictionary.txt");
+        Files.write(pathToDictionary, "fox\ncad\n".getBytes(StandardCharsets.UTF_8));
+        Assertions.assertFalse(CompiledDictionary.isCompiledDictionary(pathToDictionary));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CompiledDictionary.load(pathToDictionary));
+    }
+
+}
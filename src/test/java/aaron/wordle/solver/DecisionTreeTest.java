@@ -0,0 +1,76 @@
+package aaron.wordle.solver;
+
+import aaron.wordle.game.PositionResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.*;
+
+public class DecisionTreeTest {
+
+    @TempDir
+    Path treeDirectory;
+
+    @Test
+    public void testDecisionTreeMatchesSolver() {
+        List<String> dictionary = RandomWords.words(200, 4, 6, 0);
+        DecisionTreeBuilder builder = new DecisionTreeBuilder(dictionary, 2);
+        DecisionTreeBuilder.Node root = builder.build();
+        Path pathToDecisionTree = treeDirectory.resolve("dictionary.tree");
+        builder.write(root, pathToDecisionTree);
+        DecisionTree decisionTree = DecisionTree.open(pathToDecisionTree);
+        Assertions.assertEquals(root.getNumNodes(), decisionTree.getNumNodes());
+
+        long totalGuesses = 0;
+        int maxGuesses = 0;
+        for (String answer : new LinkedHashSet<>(dictionary)) {
+            WordleSolver solver = new WordleSolver(dictionary);
+            Guesser treeGuesser = decisionTree.newGuesser();
+            int numGuesses = 0;
+            while (true) {
+                String guess = solver.nextGuess();
+                Assertions.assertEquals(guess, treeGuesser.nextGuess());
+                numGuesses++;
+                if (guess.equals(answer)) break;
+                List<PositionResponse> response = FeedbackPatterns.toPositionResponses(FeedbackPatterns.compute(guess, answer), 4);
+                solver.updateFromGuess(guess, response);
+                treeGuesser.updateFromGuess(guess, response);
+            }
+            totalGuesses += numGuesses;
+            maxGuesses = Math.max(maxGuesses, numGuesses);
+        }
+        Assertions.assertEquals(totalGuesses, root.getTotalGuesses());
+        Assertions.assertEquals(maxGuesses, root.getDepth());
+    }
+
+    @Test
+    public void testLookaheadTreeIsOptimal() {
+        List<String> dictionary = RandomWords.words(60, 3, 5, 1);
+        DecisionTreeBuilder greedyBuilder = new DecisionTreeBuilder(dictionary, 2, ScoringStrategy.EXPECTED_SIZE);
+        DecisionTreeBuilder lookaheadBuilder = new DecisionTreeBuilder(dictionary, 2, ScoringStrategy.EXPECTED_SIZE);
+        lookaheadBuilder.setLookahead(10, 60);
+        DecisionTreeBuilder.Node greedyRoot = greedyBuilder.build();
+        DecisionTreeBuilder.Node lookaheadRoot = lookaheadBuilder.build();
+
+        DictionaryIndex dictionaryIndex = lookaheadBuilder.getDictionaryIndex();
+        int optimalTotalGuesses = new LookaheadSearch(dictionaryIndex, ScoringStrategy.EXPECTED_SIZE, 1 << 16)
+                .cost(dictionaryIndex.allWordIds().stream().toArray(), 10);
+        Assertions.assertEquals(optimalTotalGuesses, lookaheadRoot.getTotalGuesses());
+        Assertions.assertTrue(lookaheadRoot.getTotalGuesses() <= greedyRoot.getTotalGuesses());
+        Assertions.assertTrue(lookaheadBuilder.getNumCandidatesCollapsed() > 0);
+    }
+
+    @Test
+    public void testGuesserRejectsOtherGuesses() {
+        List<String> dictionary = Arrays.asList("cat", "cad", "car", "fox");
+        DecisionTreeBuilder builder = new DecisionTreeBuilder(dictionary, 1);
+        Path pathToDecisionTree = treeDirectory.resolve("small.tree");
+        builder.write(builder.build(), pathToDecisionTree);
+        Guesser treeGuesser = DecisionTree.open(pathToDecisionTree).newGuesser();
+        Assertions.assertEquals("cat", treeGuesser.nextGuess());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> treeGuesser.updateFromGuess("fox", FeedbackPatterns.toPositionResponses(0, 3)));
+    }
+
+}
@@ -0,0 +1,82 @@
+package aaron.wordle.solver;
+
+import aaron.wordle.game.PositionResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+public class DictionaryIndexTest {
+
+    @Test
+    public void testFilterWithoutConstraintsKeepsAllWords() {
+        DictionaryIndex dictionaryIndex = new DictionaryIndex(Arrays.asList("cat", "cad", "car", "fox"));
+        BitSet wordIds = dictionaryIndex.filter(new WordConstraints(3), dictionaryIndex.allWordIds());
+        Assertions.assertEquals(Arrays.asList("cat", "cad", "car", "fox"), dictionaryIndex.getWords(wordIds));
+    }
+
+    @Test
+    public void testFilterWithLetterCounts() {
+        DictionaryIndex dictionaryIndex = new DictionaryIndex(Arrays.asList("abb", "bab", "bba", "bcd", "cbd", "ccb", "bbb"));
+        WordConstraints wordConstraints = new WordConstraints(3).updateFromGuess("abb", Arrays.asList(PositionResponse.NOT_IN_WORD, PositionResponse.IN_WORD_NOT_POSITION, PositionResponse.NOT_IN_WORD));
+        BitSet wordIds = dictionaryIndex.filter(wordConstraints, dictionaryIndex.allWordIds());
+        Assertions.assertEquals(Collections.singletonList("bcd"), dictionaryIndex.getWords(wordIds));
+    }
+
+    @Test
+    public void testFilterMatchesWordFitsConstraints() {
+        Random random = new Random(0);
+        List<String> words = RandomWords.words(random, 500, 4, 4);
+        DictionaryIndex dictionaryIndex = new DictionaryIndex(words);
+        for (int trial = 0; trial < 50; trial++) {
+            String guess = words.get(random.nextInt(words.size()));
+            String answer = words.get(random.nextInt(words.size()));
+            List<PositionResponse> response = FeedbackPatterns.toPositionResponses(FeedbackPatterns.compute(guess, answer), 4);
+            WordConstraints wordConstraints = new WordConstraints(4).updateFromGuess(guess, response);
+            List<String> expected = words.stream().filter(wordConstraints::wordFitsConstraints).collect(Collectors.toList());
+            Assertions.assertEquals(expected, dictionaryIndex.getWords(dictionaryIndex.filter(wordConstraints, dictionaryIndex.allWordIds())));
+        }
+    }
+
+    @Test
+    public void testPackedIndexMatchesIndex() {
+        Random random = new Random(1);
+        List<String> words = RandomWords.words(random, 300, 4, 5);
+        DictionaryIndex dictionaryIndex = WordleSolver.indexDictionary(words);
+        DictionaryIndex packedIndex = new DictionaryIndex(PackedWords.pack(words, false));
+        Assertions.assertTrue(packedIndex.isPacked());
+        Assertions.assertEquals(dictionaryIndex.getWords(), packedIndex.getWords());
+        for (int trial = 0; trial < 20; trial++) {
+            String guess = words.get(random.nextInt(words.size()));
+            String answer = words.get(random.nextInt(words.size()));
+            WordConstraints wordConstraints = new WordConstraints(4).updateFromGuess(guess, FeedbackPatterns.toPositionResponses(FeedbackPatterns.compute(guess, answer), 4));
+            BitSet wordIds = dictionaryIndex.filter(wordConstraints, dictionaryIndex.allWordIds());
+            Assertions.assertEquals(wordIds, packedIndex.filter(wordConstraints, packedIndex.allWordIds()));
+            Assertions.assertEquals(dictionaryIndex.getWords(wordIds), packedIndex.getWords(wordIds));
+        }
+
+        WordleSolver solver = new WordleSolver(dictionaryIndex, 1, ScoringStrategy.MIN_MAX);
+        WordleSolver packedSolver = new WordleSolver(packedIndex, 1, ScoringStrategy.MIN_MAX);
+        String answer = words.get(7);
+        for (String guess = solver.nextGuess(); !guess.equals(answer); guess = solver.nextGuess()) {
+            Assertions.assertEquals(guess, packedSolver.nextGuess());
+            List<PositionResponse> response = FeedbackPatterns.toPositionResponses(FeedbackPatterns.compute(guess, answer), 4);
+            solver.updateFromGuess(guess, response);
+            packedSolver.updateFromGuess(guess, response);
+        }
+        Assertions.assertEquals(answer, packedSolver.nextGuess());
+    }
+
+    @Test
+    public void testPackedIndexDecodesWordsOnce() {
+        List<String> words = RandomWords.distinctWords(50, 5, 6, 2);
+        DictionaryIndex packedIndex = new DictionaryIndex(PackedWords.pack(words, true));
+        byte[][] encodedWords = packedIndex.getEncodedWords(packedIndex.allWordIds());
+        for (int wordId = 0; wordId < words.size(); wordId++) {
+            Assertions.assertArrayEquals(FeedbackPatterns.encode(words.get(wordId)), encodedWords[wordId]);
+            Assertions.assertSame(encodedWords[wordId], packedIndex.getEncodedWord(wordId));
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+package aaron.wordle.solver;
+
+import aaron.wordle.game.PositionResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class FeedbackPatternsTest {
+
+    @Test
+    public void testComputeWhenGuessIsAnswer() {
+        Assertions.assertEquals(FeedbackPatterns.allInPosition(5), FeedbackPatterns.compute("cigar", "cigar"));
+    }
+
+    @Test
+    public void testComputeWithNoSharedLetters() {
+        Assertions.assertEquals(0, FeedbackPatterns.compute("abc", "def"));
+    }
+
+    @Test
+    public void testEncodeRejectsNonLowercaseLetters() {
+        Assertions.assertArrayEquals(new byte[]{0, 25}, FeedbackPatterns.encode("az"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> FeedbackPatterns.encode("aZ"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> FeedbackPatterns.compute("ab1", "abc"));
+    }
+
+    @Test
+    public void testComputeMarksDuplicateLettersInPositionBeforeInWord() {
+        List<PositionResponse> response = FeedbackPatterns.toPositionResponses(FeedbackPatterns.compute("aab", "bca"), 3);
+        Assertions.assertEquals(Arrays.asList(PositionResponse.IN_WORD_NOT_POSITION, PositionResponse.NOT_IN_WORD, PositionResponse.IN_WORD_NOT_POSITION), response);
+
+        response = FeedbackPatterns.toPositionResponses(FeedbackPatterns.compute("aa", "ba"), 2);
+        Assertions.assertEquals(Arrays.asList(PositionResponse.NOT_IN_WORD, PositionResponse.IN_POSITION), response);
+    }
+
+    @Test
+    public void testPatternMatchesWordResponsesNumbering() {
+        WordResponses responses = WordResponses.withLength(3);
+        int responseNumber = 0;
+        while (responses.hasNext()) {
+            List<PositionResponse> response = responses.next();
+            Assertions.assertEquals(responseNumber, FeedbackPatterns.fromPositionResponses(response));
+            Assertions.assertEquals(response, FeedbackPatterns.toPositionResponses(responseNumber, 3));
+            responseNumber++;
+        }
+    }
+
+    @Test
+    public void testComputedPatternFitsWordConstraints() {
+        List<String> words = Arrays.asList("abba", "baab", "aaaa", "abcd", "dcba", "bbbb", "acca");
+        for (String guess : words) {
+            for (String answer : words) {
+                List<PositionResponse> response = FeedbackPatterns.toPositionResponses(FeedbackPatterns.compute(guess, answer), guess.length());
+                WordConstraints wordConstraints = new WordConstraints(guess.length()).updateFromGuess(guess, response);
+                Assertions.assertNotNull(wordConstraints);
+                Assertions.assertTrue(wordConstraints.wordFitsConstraints(answer));
+            }
+        }
+    }
+
+}
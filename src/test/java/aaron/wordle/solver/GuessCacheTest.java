@@ -0,0 +1,90 @@
+package aaron.wordle.solver;
+
+import aaron.wordle.game.PositionResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+public class GuessCacheTest {
+
+    @TempDir
+    Path cacheDirectory;
+
+    @Test
+    public void testGuessesArePersistedPerDictionary() {
+        List<String> dictionary = Arrays.asList("cat", "cad", "car", "fox");
+        new GuessCache(cacheDirectory, dictionary).put("", "cat");
+        new GuessCache(cacheDirectory, dictionary).put("cat:8;", "cad");
+
+        GuessCache reloaded = new GuessCache(cacheDirectory, dictionary);
+        Assertions.assertEquals(Optional.of("cat"), reloaded.get(""));
+        Assertions.assertEquals(Optional.of("cad"), reloaded.get("cat:8;"));
+        Assertions.assertEquals(Optional.empty(), new GuessCache(cacheDirectory, Arrays.asList("cat", "cad")).get(""));
+    }
+
+    @Test
+    public void testTruncatedRecordIsDropped() throws IOException {
+        List<String> dictionary = Arrays.asList("cat", "cad", "car", "fox");
+        GuessCache guessCache = new GuessCache(cacheDirectory, dictionary);
+        guessCache.put("", "cat");
+        guessCache.put("cat:8;", "cad");
+        byte[] contents = Files.readAllBytes(guessCache.getCacheFile());
+        Files.write(guessCache.getCacheFile(), Arrays.copyOf(contents, contents.length - 2));
+
+        GuessCache reloaded = new GuessCache(cacheDirectory, dictionary);
+        Assertions.assertEquals(1, reloaded.size());
+        reloaded.put("cat:8;", "car");
+        Assertions.assertEquals(Optional.of("car"), new GuessCache(cacheDirectory, dictionary).get("cat:8;"));
+    }
+
+    @Test
+    public void testSolverUsesCachedGuesses() {
+        List<String> dictionary = Arrays.asList("fox", "cad", "car", "cat");
+        WordleSolver solver = new WordleSolver(dictionary);
+        solver.setGuessCache(new GuessCache(cacheDirectory, dictionary));
+        Assertions.assertEquals("cad", solver.nextGuess());
+        solver.updateFromGuess("cad", Arrays.asList(PositionResponse.IN_POSITION, PositionResponse.IN_POSITION, PositionResponse.NOT_IN_WORD));
+        String secondGuess = solver.nextGuess();
+
+        GuessCache guessCache = new GuessCache(cacheDirectory, dictionary);
+        Assertions.assertEquals(2, guessCache.size());
+        guessCache.put(ScoringStrategy.MIN_MAX.getName() + "|", "fox");
+        WordleSolver cachedSolver = new WordleSolver(dictionary);
+        cachedSolver.setGuessCache(guessCache);
+        Assertions.assertEquals("fox", cachedSolver.nextGuess());
+        cachedSolver.updateFromGuess("cad", Arrays.asList(PositionResponse.IN_POSITION, PositionResponse.IN_POSITION, PositionResponse.NOT_IN_WORD));
+        Assertions.assertEquals(secondGuess, cachedSolver.nextGuess());
+    }
+
+    @Test
+    public void testCompiledDictionarySharesCacheWithTextDictionary() {
+        List<String> dictionary = Arrays.asList("cat", "cad", "car", "fox");
+        Path compiledDictionary = cacheDirectory.resolve("dictionary.wdc");
+        CompiledDictionary.compile(dictionary, compiledDictionary);
+        new GuessCache(cacheDirectory, dictionary).put("", "cat");
+
+        Assertions.assertEquals(Optional.of("cat"), new GuessCache(cacheDirectory, CompiledDictionary.load(compiledDictionary)).get(""));
+        Assertions.assertEquals(Optional.of("cat"), new GuessCache(cacheDirectory, CompiledDictionary.loadPacked(compiledDictionary, false)).get(""));
+    }
+
+    @Test
+    public void testBoundedCacheEvictsLeastRecentlyUsed() {
+        GuessCache guessCache = new GuessCache(2);
+        guessCache.put("", "cat");
+        guessCache.put("cat:8;", "cad");
+        guessCache.get("");
+        guessCache.put("cat:2;", "fox");
+        Assertions.assertEquals(2, guessCache.size());
+        Assertions.assertEquals(Optional.of("cat"), guessCache.get(""));
+        Assertions.assertEquals(Optional.empty(), guessCache.get("cat:8;"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new GuessCache(0));
+    }
+
+}
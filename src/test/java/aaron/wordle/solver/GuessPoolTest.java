@@ -0,0 +1,39 @@
+package aaron.wordle.solver;
+
+import aaron.wordle.game.PositionResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+public class GuessPoolTest {
+
+    private static final DictionaryIndex ALLOWED_GUESSES = WordleSolver.indexDictionary(Arrays.asList("cat", "bat", "zzz", "hmb", "oat"));
+
+    @Test
+    public void testHardModeFiltersGuessesByConstraints() {
+        WordConstraints wordConstraints = new WordConstraints(3).updateFromGuess("cat",
+                Arrays.asList(PositionResponse.NOT_IN_WORD, PositionResponse.IN_POSITION, PositionResponse.IN_POSITION));
+        GuessPool hardPool = new GuessPool(ALLOWED_GUESSES, true, GuessPool.DEFAULT_MAX_CANDIDATES);
+        GuessPool normalPool = new GuessPool(ALLOWED_GUESSES, false, GuessPool.DEFAULT_MAX_CANDIDATES);
+        BitSet expected = new BitSet();
+        expected.set(1);
+        expected.set(4);
+        Assertions.assertEquals(expected, hardPool.filter(wordConstraints, ALLOWED_GUESSES.allWordIds()));
+        Assertions.assertEquals(ALLOWED_GUESSES.allWordIds(), normalPool.filter(wordConstraints, ALLOWED_GUESSES.allWordIds()));
+    }
+
+    @Test
+    public void testSelectCandidatesPrefersGuessesThatSplitAnswers() {
+        byte[][] encodedAnswers = {FeedbackPatterns.encode("bat"), FeedbackPatterns.encode("hat"), FeedbackPatterns.encode("mat")};
+        GuessPool guessPool = new GuessPool(ALLOWED_GUESSES, false, 2);
+        Assertions.assertArrayEquals(new int[]{3, 1}, guessPool.selectCandidates(ALLOWED_GUESSES.allWordIds(), encodedAnswers));
+    }
+
+    @Test
+    public void testNegativeMaxCandidatesThrows() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new GuessPool(ALLOWED_GUESSES, false, -1));
+    }
+
+}
@@ -0,0 +1,41 @@
+package aaron.wordle.solver;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class GuessScorerTest {
+
+    private static byte[][] encode(String... words) {
+        byte[][] encoded = new byte[words.length][];
+        for (int wordIndex = 0; wordIndex < words.length; wordIndex++) {
+            encoded[wordIndex] = FeedbackPatterns.encode(words[wordIndex]);
+        }
+        return encoded;
+    }
+
+    @Test
+    public void testMaxBucketSize() {
+        byte[][] answers = encode("cat", "cad", "car", "fox");
+        GuessScorer guessScorer = new GuessScorer(3);
+        Assertions.assertEquals(2, guessScorer.maxBucketSize(answers[0], answers));
+        Assertions.assertEquals(3, guessScorer.maxBucketSize(answers[3], answers));
+    }
+
+    @Test
+    public void testMaxBucketSizeIsRepeatable() {
+        byte[][] answers = encode("ab", "ac", "de", "fg");
+        GuessScorer guessScorer = new GuessScorer(2);
+        Assertions.assertEquals(2, guessScorer.maxBucketSize(answers[0], answers));
+        Assertions.assertEquals(2, guessScorer.maxBucketSize(answers[0], answers));
+        Assertions.assertEquals(1, guessScorer.maxBucketSize(answers[0], answers, 2));
+    }
+
+    @Test
+    public void testMaxBucketSizeWithLongWords() {
+        byte[][] answers = encode("aaaaaaaaaaa", "bbbbbbbbbbb", "ccccccccccc");
+        GuessScorer guessScorer = new GuessScorer(11);
+        Assertions.assertEquals(2, guessScorer.maxBucketSize(answers[0], answers));
+        Assertions.assertEquals(2, guessScorer.maxBucketSize(answers[1], answers));
+    }
+
+}
@@ -0,0 +1,27 @@
+package aaron.wordle.solver;
+
+import aaron.wordle.game.PositionResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+
+public class JsonSolverListenerTest {
+
+    @Test
+    public void testWritesOneJsonLinePerEvent() {
+        StringWriter writer = new StringWriter();
+        WordleSolver solver = new WordleSolver(Arrays.asList("fox", "cad", "car", "cat", "box", "cox"));
+        solver.setSolverListener(new JsonSolverListener(writer));
+        solver.nextGuess();
+        solver.updateFromGuess("cad", Arrays.asList(PositionResponse.IN_POSITION, PositionResponse.IN_POSITION, PositionResponse.NOT_IN_WORD));
+        String[] lines = writer.toString().split("\n");
+        Assertions.assertEquals(2, lines.length);
+        Assertions.assertTrue(lines[0].startsWith("{\"event\":\"nextGuess\",\"guess\":\"cad\",\"complete\":true,\"remainingWords\":6,"));
+        Assertions.assertTrue(lines[0].endsWith("}"));
+        Assertions.assertTrue(lines[1].startsWith("{\"event\":\"updateFromGuess\",\"guess\":\"cad\",\"wordsChecked\":6,\"remainingWords\":2,"));
+        Assertions.assertTrue(lines[1].endsWith("}"));
+    }
+
+}
@@ -0,0 +1,113 @@
+package aaron.wordle.solver;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+public class LookaheadSearchTest {
+
+    private static int bruteForceCost(List<String> words, boolean worstCase) {
+        if (words.size() <= 1) {
+            return words.size();
+        }
+        int bestCost = Integer.MAX_VALUE;
+        for (String guess : words) {
+            Map<Integer, List<String>> patternToWords = new HashMap<>();
+            for (String word : words) {
+                patternToWords.computeIfAbsent(FeedbackPatterns.compute(guess, word), pattern -> new ArrayList<>()).add(word);
+            }
+            int cost = 0;
+            for (Map.Entry<Integer, List<String>> entry : patternToWords.entrySet()) {
+                List<String> bucket = entry.getValue();
+                int bucketCost;
+                if (entry.getKey() == FeedbackPatterns.allInPosition(3)) {
+                    bucketCost = 1;
+                } else if (worstCase) {
+                    bucketCost = 1 + bruteForceCost(bucket, true);
+                } else {
+                    bucketCost = bucket.size() + bruteForceCost(bucket, false);
+                }
+                cost = worstCase ? Math.max(cost, bucketCost) : cost + bucketCost;
+            }
+            bestCost = Math.min(bestCost, cost);
+        }
+        return bestCost;
+    }
+
+    private static int[] allWordIds(DictionaryIndex dictionaryIndex) {
+        return dictionaryIndex.allWordIds().stream().toArray();
+    }
+
+    @Test
+    public void testDeepSearchMatchesBruteForce() {
+        for (long seed = 0; seed < 4; seed++) {
+            List<String> dictionary = RandomWords.distinctWords(12, 3, 4, seed);
+            DictionaryIndex dictionaryIndex = new DictionaryIndex(dictionary);
+            Assertions.assertEquals(bruteForceCost(dictionary, false),
+                    new LookaheadSearch(dictionaryIndex, ScoringStrategy.EXPECTED_SIZE, 1000).cost(allWordIds(dictionaryIndex), 12));
+            Assertions.assertEquals(bruteForceCost(dictionary, true),
+                    new LookaheadSearch(dictionaryIndex, ScoringStrategy.MIN_MAX, 1000).cost(allWordIds(dictionaryIndex), 12));
+        }
+    }
+
+    @Test
+    public void testShallowSearchIsLowerBound() {
+        List<String> dictionary = RandomWords.distinctWords(30, 3, 4, 7);
+        DictionaryIndex dictionaryIndex = new DictionaryIndex(dictionary);
+        LookaheadSearch lookaheadSearch = new LookaheadSearch(dictionaryIndex, ScoringStrategy.EXPECTED_SIZE, 1000);
+        int exactCost = bruteForceCost(dictionary, false);
+        int previousCost = 0;
+        for (int depth = 1; depth <= 4; depth++) {
+            int cost = lookaheadSearch.cost(allWordIds(dictionaryIndex), depth);
+            Assertions.assertTrue(previousCost <= cost && cost <= exactCost);
+            previousCost = cost;
+        }
+    }
+
+    @Test
+    public void testTranspositionTableIsReusedAndBounded() {
+        List<String> dictionary = RandomWords.distinctWords(40, 3, 4, 3);
+        DictionaryIndex dictionaryIndex = new DictionaryIndex(dictionary);
+        LookaheadSearch lookaheadSearch = new LookaheadSearch(dictionaryIndex, ScoringStrategy.EXPECTED_SIZE, 8);
+        int cost = lookaheadSearch.cost(allWordIds(dictionaryIndex), 3);
+        Assertions.assertTrue(lookaheadSearch.getTranspositionTableSize() <= 8);
+        long numTranspositionHits = lookaheadSearch.getNumTranspositionHits();
+        Assertions.assertEquals(cost, lookaheadSearch.cost(allWordIds(dictionaryIndex), 3));
+        Assertions.assertEquals(numTranspositionHits + 1, lookaheadSearch.getNumTranspositionHits());
+    }
+
+    @Test
+    public void testEquivalentGuessesAreCollapsed() {
+        DictionaryIndex dictionaryIndex = new DictionaryIndex(Arrays.asList("ab", "bc", "ca", "dd"));
+        LookaheadSearch lookaheadSearch = new LookaheadSearch(dictionaryIndex, ScoringStrategy.EXPECTED_SIZE, 1000);
+        SearchStatistics searchStatistics = new SearchStatistics();
+        ScoredGuess best = lookaheadSearch.search(new int[]{0, 1, 2}, new int[]{2, 1, 0}, 2, () -> false, searchStatistics);
+        Assertions.assertEquals(0, best.wordIndex);
+        Assertions.assertEquals(5, (int) best.score);
+        Assertions.assertEquals(3, searchStatistics.getNumCandidatesScored());
+        Assertions.assertEquals(2, searchStatistics.getNumCandidatesCollapsed());
+    }
+
+    @Test
+    public void testSolverUsesLookaheadBelowThreshold() {
+        List<String> dictionary = RandomWords.distinctWords(20, 3, 4, 5);
+        DictionaryIndex dictionaryIndex = new DictionaryIndex(dictionary);
+        WordleSolver greedySolver = new WordleSolver(dictionary, 1, ScoringStrategy.EXPECTED_SIZE);
+        WordleSolver disabledSolver = new WordleSolver(dictionary, 1, ScoringStrategy.EXPECTED_SIZE);
+        disabledSolver.setLookahead(3, 19);
+        Assertions.assertEquals(greedySolver.nextGuess(), disabledSolver.nextGuess());
+
+        WordleSolver lookaheadSolver = new WordleSolver(dictionary, 1, ScoringStrategy.EXPECTED_SIZE);
+        lookaheadSolver.setLookahead(20, 20);
+        GuessResult guessResult = lookaheadSolver.nextGuess(() -> false);
+        Assertions.assertTrue(guessResult.isComplete());
+        LookaheadSearch lookaheadSearch = new LookaheadSearch(dictionaryIndex, ScoringStrategy.EXPECTED_SIZE, 1000);
+        int[] wordIds = allWordIds(dictionaryIndex);
+        int guessWordId = dictionary.indexOf(guessResult.getGuess());
+        int bestCost = lookaheadSearch.cost(wordIds, 20);
+        ScoredGuess best = lookaheadSearch.search(wordIds, new int[]{guessWordId}, 20, () -> false, new SearchStatistics());
+        Assertions.assertEquals(bestCost, (int) best.score);
+    }
+
+}
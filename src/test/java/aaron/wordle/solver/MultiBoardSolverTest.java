@@ -0,0 +1,133 @@
+package aaron.wordle.solver;
+
+import aaron.wordle.game.PositionResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+public class MultiBoardSolverTest {
+
+    private static List<List<PositionResponse>> responses(String guess, List<String> answers) {
+        List<List<PositionResponse>> responses = new ArrayList<>();
+        for (String answer : answers) {
+            responses.add(FeedbackPatterns.toPositionResponses(FeedbackPatterns.compute(guess, answer), answer.length()));
+        }
+        return responses;
+    }
+
+    private static List<String> play(MultiBoardSolver solver, List<String> answers) {
+        List<String> guesses = new ArrayList<>();
+        while (!solver.isSolved()) {
+            String guess = solver.nextGuess();
+            guesses.add(guess);
+            solver.updateFromGuess(guess, responses(guess, answers));
+            for (int board = 0; board < answers.size(); board++) {
+                Assertions.assertTrue(solver.getRemainingWords(board).contains(answers.get(board)));
+            }
+        }
+        return guesses;
+    }
+
+    @Test
+    public void testOneBoardMatchesWordleSolver() {
+        List<String> dictionary = new ArrayList<>(new LinkedHashSet<>(RandomWords.words(300, 4, 6, 1)));
+        for (ScoringStrategy scoringStrategy : ScoringStrategy.values()) {
+            String answer = dictionary.get(17);
+            WordleSolver solver = new WordleSolver(dictionary, 1, scoringStrategy);
+            MultiBoardSolver multiBoardSolver = new MultiBoardSolver(dictionary, 1, 1, scoringStrategy);
+            while (!multiBoardSolver.isSolved()) {
+                String guess = solver.nextGuess();
+                Assertions.assertEquals(guess, multiBoardSolver.nextGuess());
+                solver.updateFromGuess(guess, responses(guess, Collections.singletonList(answer)).get(0));
+                multiBoardSolver.updateFromGuess(guess, responses(guess, Collections.singletonList(answer)));
+            }
+            Assertions.assertEquals(answer, solver.nextGuess());
+        }
+    }
+
+    @Test
+    public void testSolvesEveryBoard() {
+        List<String> dictionary = new ArrayList<>(new LinkedHashSet<>(RandomWords.words(400, 4, 6, 2)));
+        List<String> answers = Arrays.asList(dictionary.get(3), dictionary.get(50), dictionary.get(3), dictionary.get(99),
+                dictionary.get(120), dictionary.get(7), dictionary.get(250), dictionary.get(301));
+        List<String> guesses = play(new MultiBoardSolver(dictionary, answers.size(), 1, ScoringStrategy.EXPECTED_SIZE), answers);
+        Assertions.assertTrue(guesses.containsAll(answers));
+        Assertions.assertTrue(guesses.size() < 20);
+    }
+
+    @Test
+    public void testParallelMatchesSequential() {
+        List<String> dictionary = new ArrayList<>(new LinkedHashSet<>(RandomWords.words(400, 4, 6, 3)));
+        List<String> answers = Arrays.asList(dictionary.get(10), dictionary.get(20), dictionary.get(30), dictionary.get(40));
+        Assertions.assertEquals(play(new MultiBoardSolver(dictionary, 4, 1, ScoringStrategy.MIN_MAX), answers),
+                play(new MultiBoardSolver(dictionary, 4, 3, ScoringStrategy.MIN_MAX), answers));
+    }
+
+    @Test
+    public void testFeedbackIsComputedOnceAcrossBoards() {
+        List<String> dictionary = new ArrayList<>(new LinkedHashSet<>(RandomWords.words(200, 4, 6, 4)));
+        MultiBoardSolver solver = new MultiBoardSolver(dictionary, 8, 1, ScoringStrategy.ENTROPY);
+        solver.nextGuess();
+        SearchStatistics searchStatistics = solver.getLastSearchStatistics();
+        Assertions.assertEquals(dictionary.size(), searchStatistics.getNumCandidatesScored());
+        Assertions.assertEquals((long) dictionary.size() * dictionary.size(), searchStatistics.getNumPatternsComputed());
+        Assertions.assertEquals(8L * dictionary.size() * dictionary.size(), searchStatistics.getNumPatternsPossible());
+    }
+
+    @Test
+    public void testGuessesBoardWithOneRemainingWord() {
+        List<String> dictionary = Arrays.asList("cat", "cad", "car", "fox", "box", "cox", "cab");
+        MultiBoardSolver solver = new MultiBoardSolver(dictionary, 2, 1, ScoringStrategy.MIN_MAX);
+        solver.updateFromGuess("fox", responses("fox", Arrays.asList("cab", "fox")));
+        Assertions.assertTrue(solver.isSolved(1));
+        solver.updateFromGuess("cat", responses("cat", Arrays.asList("cab", "fox")));
+        Assertions.assertEquals(Arrays.asList("cad", "car", "cab"), solver.getRemainingWords(0));
+        solver.updateFromGuess("car", responses("car", Arrays.asList("cab", "fox")));
+        Assertions.assertEquals(Arrays.asList("cad", "cab"), solver.getRemainingWords(0));
+        solver.updateFromGuess("cad", responses("cad", Arrays.asList("cab", "fox")));
+        Assertions.assertEquals("cab", solver.nextGuess());
+    }
+
+    @Test
+    public void testBoardWithNoRemainingWordsIsNotScored() {
+        List<String> dictionary = RandomWords.distinctWords(300, 4, 6, 5);
+        List<PositionResponse> noMatch = Arrays.asList(PositionResponse.IN_POSITION, PositionResponse.IN_POSITION, PositionResponse.IN_POSITION, PositionResponse.NOT_IN_WORD);
+        int numEmptyBoards = 0;
+        for (ScoringStrategy scoringStrategy : ScoringStrategy.values()) {
+            for (String guess : dictionary.subList(0, 100)) {
+                String answer = dictionary.get(dictionary.size() - 1);
+                List<PositionResponse> response = responses(guess, Collections.singletonList(answer)).get(0);
+                MultiBoardSolver multiBoardSolver = new MultiBoardSolver(dictionary, 2, 1, scoringStrategy);
+                multiBoardSolver.updateFromGuess(guess, Arrays.asList(response, noMatch));
+                if (!multiBoardSolver.getRemainingWords(1).isEmpty()) continue;
+                WordleSolver solver = new WordleSolver(dictionary, 1, scoringStrategy);
+                solver.updateFromGuess(guess, response);
+                Assertions.assertEquals(solver.nextGuess(), multiBoardSolver.nextGuess());
+                numEmptyBoards++;
+            }
+        }
+        Assertions.assertTrue(numEmptyBoards > 0);
+    }
+
+    @Test
+    public void testInvalidNumberOfResponses() {
+        MultiBoardSolver solver = new MultiBoardSolver(Arrays.asList("cat", "cad"), 2, 1, ScoringStrategy.MIN_MAX);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> solver.updateFromGuess("cat", responses("cat", Collections.singletonList("cad"))));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new MultiBoardSolver(Arrays.asList("cat", "cad"), 0, 1, ScoringStrategy.MIN_MAX));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new MultiBoardSolver(Collections.emptyList(), 2, 1, ScoringStrategy.MIN_MAX));
+    }
+
+    @Test
+    public void testInconsistentResponseLeavesBoardsUnchanged() {
+        MultiBoardSolver solver = new MultiBoardSolver(Arrays.asList("aab", "cat", "cad", "car"), 2, 2, ScoringStrategy.MIN_MAX);
+        List<PositionResponse> inconsistent = Arrays.asList(PositionResponse.NOT_IN_WORD, PositionResponse.IN_WORD_NOT_POSITION, PositionResponse.NOT_IN_WORD);
+        List<List<PositionResponse>> responses = Arrays.asList(responses("aab", Collections.singletonList("cat")).get(0), inconsistent);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> solver.updateFromGuess("aab", responses));
+        Assertions.assertEquals(4, solver.getRemainingWords(0).size());
+        Assertions.assertEquals(4, solver.getRemainingWords(1).size());
+        solver.updateFromGuess("cad", responses("cad", Arrays.asList("cad", "car")));
+        Assertions.assertEquals(Collections.singletonList("cad"), solver.getRemainingWords(0));
+    }
+
+}
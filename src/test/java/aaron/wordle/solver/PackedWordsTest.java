@@ -0,0 +1,65 @@
+package aaron.wordle.solver;
+
+import aaron.wordle.game.PositionResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+public class PackedWordsTest {
+
+    @Test
+    public void testPackAndUnpack() {
+        long packedWord = PackedWords.pack("zebraquizzed");
+        Assertions.assertEquals(packedWord, PackedWords.pack(FeedbackPatterns.encode("zebraquizzed")));
+        Assertions.assertEquals('z' - 'a', PackedWords.letterAt(packedWord, 0));
+        Assertions.assertEquals('d' - 'a', PackedWords.letterAt(packedWord, 11));
+        Assertions.assertEquals(3, PackedWords.countLetter(packedWord, 'z' - 'a', 12));
+        Assertions.assertEquals(2, PackedWords.countLetter(packedWord, 'e' - 'a', 12));
+        Assertions.assertEquals(0, PackedWords.countLetter(packedWord, 'a' - 'a', 3));
+        Assertions.assertEquals(0, PackedWords.countLetter(packedWord, 'c' - 'a', 12));
+    }
+
+    @Test
+    public void testPackDeduplicatesInFirstOccurrenceOrder() {
+        for (boolean offHeap : new boolean[]{false, true}) {
+            PackedWords packedWords = PackedWords.pack(Arrays.asList("fox", "cad", "fox", "aaa", "cad", "box"), offHeap);
+            Assertions.assertEquals(offHeap, packedWords.isOffHeap());
+            Assertions.assertEquals(4, packedWords.size());
+            Assertions.assertEquals("fox", packedWords.getWord(0));
+            Assertions.assertEquals("cad", packedWords.getWord(1));
+            Assertions.assertEquals("aaa", packedWords.getWord(2));
+            Assertions.assertEquals("box", packedWords.getWord(3));
+            Assertions.assertArrayEquals(FeedbackPatterns.encode("box"), packedWords.getEncodedWord(3));
+        }
+    }
+
+    @Test
+    public void testPackRejectsInvalidWords() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PackedWords.pack(Collections.singletonList("abcdefghijklm"), false));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PackedWords.pack(Arrays.asList("abc", "abcd"), false));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PackedWords.pack(Collections.singletonList("aBc"), false));
+    }
+
+    @Test
+    public void testFilterMatchesWordFitsConstraints() {
+        Random random = new Random(1);
+        for (int wordLength : new int[]{5, 8, 12}) {
+            List<String> words = new ArrayList<>(new LinkedHashSet<>(RandomWords.words(2000, wordLength, 5, wordLength)));
+            PackedWords packedWords = PackedWords.pack(words, true);
+            BitSet allWordIds = new BitSet();
+            allWordIds.set(0, packedWords.size());
+            for (int trial = 0; trial < 30; trial++) {
+                String guess = words.get(random.nextInt(words.size()));
+                String answer = words.get(random.nextInt(words.size()));
+                List<PositionResponse> response = FeedbackPatterns.toPositionResponses(FeedbackPatterns.compute(guess, answer), wordLength);
+                WordConstraints wordConstraints = new WordConstraints(wordLength).updateFromGuess(guess, response);
+                List<String> expected = words.stream().filter(wordConstraints::wordFitsConstraints).collect(Collectors.toList());
+                BitSet wordIds = packedWords.filter(wordConstraints, allWordIds);
+                Assertions.assertEquals(expected, wordIds.stream().mapToObj(packedWords::getWord).collect(Collectors.toList()));
+            }
+        }
+    }
+
+}
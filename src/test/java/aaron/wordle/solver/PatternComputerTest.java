@@ -0,0 +1,76 @@
+package aaron.wordle.solver;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class PatternComputerTest {
+
+    private static void assertMatchesFeedbackPatterns(PatternComputer patternComputer, byte[][] answers, byte[][] guesses) {
+        int[] patterns = new int[answers.length];
+        for (byte[] guess : guesses) {
+            patternComputer.compute(guess, patterns);
+            for (int answerIndex = 0; answerIndex < patternComputer.getNumAnswers(); answerIndex++) {
+                Assertions.assertEquals(FeedbackPatterns.compute(guess, answers[answerIndex]), patterns[answerIndex]);
+            }
+        }
+    }
+
+    @Test
+    public void testBackendsMatchFeedbackPatterns() {
+        Random random = new Random(0);
+        for (int wordLength = 1; wordLength <= 12; wordLength++) {
+            for (int numAnswers : new int[]{1, 7, 33, 250}) {
+                byte[][] answers = RandomWords.encodedWords(random, numAnswers, wordLength, 4);
+                byte[][] guesses = RandomWords.encodedWords(random, 20, wordLength, 4);
+                assertMatchesFeedbackPatterns(PatternComputer.scalar(answers, numAnswers), answers, guesses);
+                assertMatchesFeedbackPatterns(PatternComputer.forAnswers(answers, numAnswers - 1), answers, guesses);
+            }
+        }
+    }
+
+    @Test
+    public void testComputeRange() {
+        Random random = new Random(2);
+        byte[][] answers = RandomWords.encodedWords(random, 100, 5, 6);
+        PatternComputer patternComputer = PatternComputer.forAnswers(answers, answers.length);
+        int[] patterns = new int[answers.length];
+        Arrays.fill(patterns, -1);
+        patternComputer.compute(answers[0], patterns, 13, 71);
+        for (int answerIndex = 0; answerIndex < answers.length; answerIndex++) {
+            int expected = answerIndex < 13 || answerIndex >= 71 ? -1 : FeedbackPatterns.compute(answers[0], answers[answerIndex]);
+            Assertions.assertEquals(expected, patterns[answerIndex]);
+        }
+    }
+
+    @Test
+    public void testVectorBackend() {
+        Assumptions.assumeTrue(PatternComputer.isVectorAvailable());
+        Random random = new Random(1);
+        byte[][] answers = RandomWords.encodedWords(random, 1000, 5, 26);
+        PatternComputer patternComputer = PatternComputer.vector(answers, answers.length);
+        Assertions.assertEquals(PatternComputer.VECTOR, patternComputer.getBackend());
+        assertMatchesFeedbackPatterns(patternComputer, answers, answers);
+    }
+
+    @Test
+    public void testUnavailableVectorBackend() {
+        Assumptions.assumeFalse(PatternComputer.isVectorAvailable());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> PatternComputer.vector(new byte[][]{{0}}, 1));
+        Assertions.assertEquals(PatternComputer.SCALAR, PatternComputer.forAnswers(new byte[][]{{0}}, 1).getBackend());
+    }
+
+    @Test
+    public void testUnknownBackend() {
+        System.setProperty(PatternComputer.BACKEND_PROPERTY, "gpu");
+        try {
+            Assertions.assertThrows(IllegalArgumentException.class, () -> PatternComputer.forAnswers(new byte[][]{{0}}, 1));
+        } finally {
+            System.clearProperty(PatternComputer.BACKEND_PROPERTY);
+        }
+    }
+
+}
@@ -0,0 +1,50 @@
+package aaron.wordle.solver;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+class RandomWords {
+
+    private RandomWords() {
+        throw new IllegalStateException();
+    }
+
+    static List<String> words(int numWords, int wordLength, int numLetters, long seed) {
+        return words(new Random(seed), numWords, wordLength, numLetters);
+    }
+
+    static List<String> words(Random random, int numWords, int wordLength, int numLetters) {
+        List<String> words = new ArrayList<>();
+        for (int wordIndex = 0; wordIndex < numWords; wordIndex++) {
+            words.add(word(random, wordLength, numLetters));
+        }
+        return words;
+    }
+
+    static List<String> distinctWords(int numWords, int wordLength, int numLetters, long seed) {
+        Random random = new Random(seed);
+        Set<String> words = new LinkedHashSet<>();
+        while (words.size() < numWords) {
+            words.add(word(random, wordLength, numLetters));
+        }
+        return new ArrayList<>(words);
+    }
+
+    static byte[][] encodedWords(Random random, int numWords, int wordLength, int numLetters) {
+        byte[][] encodedWords = new byte[numWords][];
+        for (int wordIndex = 0; wordIndex < numWords; wordIndex++) {
+            encodedWords[wordIndex] = FeedbackPatterns.encode(word(random, wordLength, numLetters));
+        }
+        return encodedWords;
+    }
+
+    private static String word(Random random, int wordLength, int numLetters) {
+        char[] word = new char[wordLength];
+        for (int position = 0; position < word.length; position++) word[position] = (char) ('a' + random.nextInt(numLetters));
+        return new String(word);
+    }
+
+}
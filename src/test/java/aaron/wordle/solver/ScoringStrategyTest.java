@@ -0,0 +1,57 @@
+package aaron.wordle.solver;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+public class ScoringStrategyTest {
+
+    private static byte[][] encode(String... words) {
+        byte[][] encoded = new byte[words.length][];
+        for (int wordIndex = 0; wordIndex < words.length; wordIndex++) {
+            encoded[wordIndex] = FeedbackPatterns.encode(words[wordIndex]);
+        }
+        return encoded;
+    }
+
+    @Test
+    public void testScoresFromOneHistogram() {
+        byte[][] answers = encode("cat", "cad", "car", "fox");
+        GuessScorer guessScorer = new GuessScorer(3);
+        guessScorer.score(answers[0], answers, answers.length);
+
+        Assertions.assertEquals(2, ScoringStrategy.MIN_MAX.score(guessScorer));
+        Assertions.assertEquals((1 + 4 + 1) / 4.0, ScoringStrategy.EXPECTED_SIZE.score(guessScorer));
+        Assertions.assertEquals((2 * Math.log(2)) / 4 - Math.log(4), ScoringStrategy.ENTROPY.score(guessScorer), 1e-12);
+        Assertions.assertEquals(2 + 6 / 17.0, ScoringStrategy.HYBRID.score(guessScorer), 1e-12);
+    }
+
+    @Test
+    public void testMinMaxMatchesDefaultSolver() {
+        List<String> dictionary = Arrays.asList("fox", "cad", "car", "cat");
+        Assertions.assertEquals(new WordleSolver(dictionary).nextGuess(), new WordleSolver(dictionary, 1, ScoringStrategy.MIN_MAX).nextGuess());
+    }
+
+    @Test
+    public void testHybridBreaksMinMaxTiesByExpectedSize() {
+        List<String> dictionary = Arrays.asList("bbb", "daa", "ccc", "add", "dca", "dda");
+        Assertions.assertEquals("daa", new WordleSolver(dictionary, 1, ScoringStrategy.MIN_MAX).nextGuess());
+        Assertions.assertEquals("dca", new WordleSolver(dictionary, 1, ScoringStrategy.HYBRID).nextGuess());
+    }
+
+    @Test
+    public void testParallelMatchesSequentialForEveryStrategy() {
+        List<String> dictionary = RandomWords.words(200, 4, 6, 1);
+        for (ScoringStrategy scoringStrategy : ScoringStrategy.values()) {
+            Assertions.assertEquals(new WordleSolver(dictionary, 1, scoringStrategy).nextGuess(), new WordleSolver(dictionary, 3, scoringStrategy).nextGuess());
+        }
+    }
+
+    @Test
+    public void testFromName() {
+        Assertions.assertEquals(Optional.of(ScoringStrategy.EXPECTED_SIZE), ScoringStrategy.fromName("expected-size"));
+        Assertions.assertEquals(Optional.empty(), ScoringStrategy.fromName("unknown"));
+    }
+
+}
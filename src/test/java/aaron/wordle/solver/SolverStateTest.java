@@ -0,0 +1,37 @@
+package aaron.wordle.solver;
+
+import aaron.wordle.game.PositionResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class SolverStateTest {
+
+    private static final List<String> DICTIONARY = Arrays.asList("cat", "cad", "car", "fox", "box", "cox", "cab");
+
+    @Test
+    public void testResumedSolverMatchesSolverThatPlayedTheGame() {
+        DictionaryIndex dictionaryIndex = WordleSolver.indexDictionary(DICTIONARY);
+        List<PositionResponse> response = FeedbackPatterns.toPositionResponses(FeedbackPatterns.compute("cat", "cab"), 3);
+        SolverState initialState = new SolverState(dictionaryIndex);
+        SolverState solverState = initialState.updateFromGuess(dictionaryIndex, "cat", response);
+
+        WordleSolver solver = new WordleSolver(dictionaryIndex, 1, ScoringStrategy.MIN_MAX);
+        solver.updateFromGuess("cat", response);
+        WordleSolver resumedSolver = new WordleSolver(dictionaryIndex, 1, ScoringStrategy.MIN_MAX, solverState);
+        Assertions.assertEquals(solver.getRemainingWords(), resumedSolver.getRemainingWords());
+        Assertions.assertEquals(solver.nextGuess(), resumedSolver.nextGuess());
+        Assertions.assertEquals(3, solverState.getNumRemainingWords());
+        Assertions.assertEquals(DICTIONARY.size(), initialState.getNumRemainingWords());
+    }
+
+    @Test
+    public void testInconsistentResponseIsRejected() {
+        DictionaryIndex dictionaryIndex = WordleSolver.indexDictionary(DICTIONARY);
+        List<PositionResponse> response = Arrays.asList(PositionResponse.NOT_IN_WORD, PositionResponse.IN_WORD_NOT_POSITION, PositionResponse.NOT_IN_WORD);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new SolverState(dictionaryIndex).updateFromGuess(dictionaryIndex, "aab", response));
+    }
+
+}
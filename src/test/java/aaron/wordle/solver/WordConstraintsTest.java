@@ -79,4 +79,34 @@ public class WordConstraintsTest {
         Assertions.assertFalse(wordConstraints.wordFitsConstraints("ccccc"));
     }
 
+    @Test
+    public void testEncodedWordConstraintsMatchStringWordConstraints() {
+        List<PositionResponse> response = Arrays.asList(PositionResponse.IN_WORD_NOT_POSITION, PositionResponse.NOT_IN_WORD, PositionResponse.NOT_IN_WORD);
+        WordConstraints fromString = new WordConstraints(3).updateFromGuess("aab", response);
+        WordConstraints fromPattern = new WordConstraints(3).updateFromGuess(FeedbackPatterns.encode("aab"), FeedbackPatterns.fromPositionResponses(response));
+        for (String word : Arrays.asList("cca", "bca", "aca", "cac", "aab")) {
+            Assertions.assertEquals(fromString.wordFitsConstraints(word), fromPattern.wordFitsConstraints(FeedbackPatterns.encode(word)));
+        }
+        Assertions.assertTrue(fromPattern.wordFitsConstraints(FeedbackPatterns.encode("cca")));
+        Assertions.assertFalse(fromPattern.wordFitsConstraints(FeedbackPatterns.encode("aab")));
+    }
+
+    @Test
+    public void testWordLengthBeyondPackingWidthIsRejected() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new WordConstraints(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new WordConstraints(FeedbackPatterns.MAX_WORD_LENGTH + 1));
+        WordConstraints wordConstraints = new WordConstraints(FeedbackPatterns.MAX_WORD_LENGTH);
+        Assertions.assertTrue(wordConstraints.wordFitsConstraints(String.join("", Collections.nCopies(FeedbackPatterns.MAX_WORD_LENGTH, "a"))));
+    }
+
+    @Test
+    public void testNonLowercaseLettersAreRejected() {
+        WordConstraints wordConstraints = new WordConstraints(3);
+        List<PositionResponse> response = Collections.nCopies(3, PositionResponse.NOT_IN_WORD);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> wordConstraints.updateFromGuess("aBc", response));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> wordConstraints.updateFromGuess(new byte[]{0, 26, 2}, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> wordConstraints.wordFitsConstraints("Abc"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> wordConstraints.wordFitsConstraints("a{c"));
+    }
+
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.*;
+import java.util.function.IntConsumer;
 
 public class WordResponsesTest {
 
@@ -81,4 +82,23 @@ public class WordResponsesTest {
         Assertions.assertEquals(expectedResponses, actualResponses);
     }
 
+    @Test
+    public void testReachableFromOnlyReturnsPatternsOfRemainingWords() {
+        PrimitiveIterator.OfInt patterns = WordResponses.reachableFrom("cat", Arrays.asList("cat", "cad", "car", "fox", "act"));
+        List<Integer> actualPatterns = new ArrayList<>();
+        patterns.forEachRemaining((IntConsumer) actualPatterns::add);
+
+        List<Integer> expectedPatterns = new ArrayList<>(new TreeSet<>(Arrays.asList(
+                FeedbackPatterns.compute("cat", "fox"),
+                FeedbackPatterns.compute("cat", "cad"),
+                FeedbackPatterns.compute("cat", "act"),
+                FeedbackPatterns.compute("cat", "cat"))));
+        Assertions.assertEquals(expectedPatterns, actualPatterns);
+    }
+
+    @Test
+    public void testWithLengthRejectsOverflowingLengths() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> WordResponses.withLength(FeedbackPatterns.MAX_WORD_LENGTH + 1));
+    }
+
 }
@@ -4,8 +4,8 @@ import aaron.wordle.game.PositionResponse;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
-import java.util.Arrays;
-import java.util.Collections;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 public class WordleSolverTest {
 
@@ -45,6 +45,113 @@ public class WordleSolverTest {
         Assertions.assertEquals("ab", solver.nextGuess());
     }
 
+    @Test
+    public void testParallelNextGuessWhenCorrectNextGuessIsNotAtFirstIndex() {
+        WordleSolver solver = new WordleSolver(Arrays.asList("fox", "cad", "car", "cat"), 4);
+        Assertions.assertEquals("cad", solver.nextGuess());
+    }
+
+    @Test
+    public void testParallelNextGuessMatchesSequentialNextGuess() {
+        List<String> dictionary = RandomWords.words(300, 4, 5, 0);
+        String sequentialGuess = new WordleSolver(dictionary).nextGuess();
+        Assertions.assertEquals(sequentialGuess, new WordleSolver(dictionary, 3).nextGuess());
+    }
+
+    @Test
+    public void testBoundedScoringMatchesExhaustiveScoring() {
+        Random random = new Random(2);
+        for (int trial = 0; trial < 5; trial++) {
+            List<String> dictionary = RandomWords.words(random, 150, 3, 5);
+            for (ScoringStrategy scoringStrategy : ScoringStrategy.values()) {
+                WordleSolver exhaustiveSolver = new WordleSolver(dictionary, 1, scoringStrategy);
+                exhaustiveSolver.setBoundedScoring(false);
+                WordleSolver boundedSolver = new WordleSolver(dictionary, 1, scoringStrategy);
+                Assertions.assertEquals(exhaustiveSolver.nextGuess(), boundedSolver.nextGuess());
+                Assertions.assertEquals(0, exhaustiveSolver.getLastSearchStatistics().getNumCandidatesPruned());
+            }
+        }
+    }
+
+    @Test
+    public void testBoundedScoringPrunesCandidates() {
+        WordleSolver solver = new WordleSolver(Arrays.asList("fox", "cad", "car", "cat", "box", "cox"));
+        Assertions.assertEquals("cad", solver.nextGuess());
+        SearchStatistics searchStatistics = solver.getLastSearchStatistics();
+        Assertions.assertEquals(6, searchStatistics.getNumCandidatesScored() + searchStatistics.getNumCandidatesPruned());
+        Assertions.assertTrue(searchStatistics.getNumCandidatesPruned() > 0);
+        Assertions.assertTrue(searchStatistics.getPrunedWorkFraction() > 0);
+    }
+
+    @Test
+    public void testNextGuessWithGenerousTimeBudgetIsComplete() {
+        List<String> dictionary = Arrays.asList("fox", "cad", "car", "cat", "box", "cox");
+        for (int parallelism : new int[]{1, 4}) {
+            GuessResult guessResult = new WordleSolver(dictionary, parallelism).nextGuess(1, TimeUnit.MINUTES);
+            Assertions.assertEquals("cad", guessResult.getGuess());
+            Assertions.assertTrue(guessResult.isComplete());
+        }
+    }
+
+    @Test
+    public void testNextGuessStoppedImmediatelyReturnsMostPromisingCandidate() {
+        List<String> dictionary = Arrays.asList("xyz", "abc", "abd", "abe");
+        for (int parallelism : new int[]{1, 4}) {
+            GuessResult guessResult = new WordleSolver(dictionary, parallelism).nextGuess(() -> true);
+            Assertions.assertEquals("abc", guessResult.getGuess());
+            Assertions.assertFalse(guessResult.isComplete());
+            Assertions.assertEquals(0, guessResult.getSearchStatistics().getNumCandidatesScored());
+        }
+    }
+
+    @Test
+    public void testNextGuessStoppedEarlyReturnsBestSoFarAndIsNotCached() {
+        List<String> dictionary = Arrays.asList("fox", "cad", "car", "cat", "box", "cox");
+        WordleSolver solver = new WordleSolver(dictionary);
+        solver.setGuessCache(new GuessCache());
+        int[] numChecks = new int[1];
+        GuessResult guessResult = solver.nextGuess(() -> ++numChecks[0] > 3);
+        Assertions.assertFalse(guessResult.isComplete());
+        Assertions.assertTrue(dictionary.contains(guessResult.getGuess()));
+        SearchStatistics searchStatistics = guessResult.getSearchStatistics();
+        Assertions.assertTrue(searchStatistics.getNumCandidatesScored() + searchStatistics.getNumCandidatesPruned() < dictionary.size());
+        GuessResult completeResult = solver.nextGuess(() -> false);
+        Assertions.assertTrue(completeResult.isComplete());
+        Assertions.assertEquals("cad", completeResult.getGuess());
+    }
+
+    @Test
+    public void testSolverListenerReceivesProgressAndPhaseEvents() {
+        List<String> dictionary = new ArrayList<>();
+        for (char first = 'a'; first <= 'o'; first++) {
+            for (char second = 'a'; second <= 'o'; second++) {
+                dictionary.add("" + first + second);
+            }
+        }
+        WordleSolver solver = new WordleSolver(dictionary);
+        List<String> events = new ArrayList<>();
+        solver.setSolverListener(new SolverListener() {
+            @Override
+            public void onSearchProgress(int numCandidatesProcessed, int numCandidates, long elapsedNanos) {
+                events.add("progress " + numCandidatesProcessed + "/" + numCandidates);
+            }
+
+            @Override
+            public void onNextGuess(GuessResult guessResult, int numRemainingWords, long elapsedNanos) {
+                events.add("nextGuess " + guessResult.isComplete() + " " + numRemainingWords);
+            }
+
+            @Override
+            public void onUpdateFromGuess(String guess, int numWordsChecked, int numRemainingWords, long elapsedNanos) {
+                events.add("updateFromGuess " + numWordsChecked + " " + numRemainingWords);
+            }
+        });
+        String guess = solver.nextGuess();
+        solver.updateFromGuess(guess, Arrays.asList(PositionResponse.IN_POSITION, PositionResponse.NOT_IN_WORD));
+        Assertions.assertEquals(Arrays.asList("progress 100/225", "progress 200/225", "progress 225/225", "nextGuess true 225",
+                "updateFromGuess 225 " + solver.getRemainingWords().size()), events);
+    }
+
     @Test
     public void testUpdateFromGuess() {
         WordleSolver solver = new WordleSolver(Arrays.asList("de", "ab", "ab", "ab", "ac", "fg"));
@@ -52,4 +159,92 @@ public class WordleSolverTest {
         Assertions.assertEquals(Collections.singletonList("ac"), solver.getRemainingWords());
     }
 
+    @Test
+    public void testLaterTurnsReusePatternsFromEarlierTurns() {
+        List<String> dictionary = RandomWords.words(1500, 5, 8, 3);
+        DictionaryIndex dictionaryIndex = WordleSolver.indexDictionary(dictionary);
+        for (ScoringStrategy scoringStrategy : new ScoringStrategy[]{ScoringStrategy.MIN_MAX, ScoringStrategy.EXPECTED_SIZE}) {
+            String answer = dictionary.get(99);
+            WordleSolver solver = new WordleSolver(dictionaryIndex, 1, scoringStrategy);
+            List<String> guesses = new ArrayList<>();
+            List<List<PositionResponse>> responses = new ArrayList<>();
+            int numReusedTurns = 0;
+            for (String guess = solver.nextGuess(); !guess.equals(answer); guess = solver.nextGuess()) {
+                List<PositionResponse> response = FeedbackPatterns.toPositionResponses(FeedbackPatterns.compute(guess, answer), 5);
+                guesses.add(guess);
+                responses.add(response);
+                solver.updateFromGuess(guess, response);
+
+                WordleSolver freshSolver = new WordleSolver(dictionaryIndex, 1, scoringStrategy);
+                for (int turn = 0; turn < guesses.size(); turn++) {
+                    freshSolver.updateFromGuess(guesses.get(turn), responses.get(turn));
+                }
+                String freshGuess = freshSolver.nextGuess();
+                Assertions.assertEquals(freshGuess, solver.nextGuess());
+                if (freshSolver.getRemainingWords().size() > 1) {
+                    Assertions.assertTrue(solver.getLastSearchStatistics().getNumPatternsComputed() < freshSolver.getLastSearchStatistics().getNumPatternsComputed());
+                    numReusedTurns++;
+                }
+            }
+            Assertions.assertTrue(numReusedTurns > 0);
+        }
+    }
+
+    @Test
+    public void testRepeatedGuessesWithoutUpdateDoNotReusePatterns() {
+        List<String> dictionary = RandomWords.words(1500, 5, 8, 3);
+        WordleSolver solver = new WordleSolver(dictionary);
+        String guess = solver.nextGuess();
+        long numPatternsComputed = solver.getLastSearchStatistics().getNumPatternsComputed();
+        Assertions.assertEquals(guess, solver.nextGuess());
+        Assertions.assertEquals(numPatternsComputed, solver.getLastSearchStatistics().getNumPatternsComputed());
+    }
+
+    @Test
+    public void testNextGuessTakesStrongerGuessFromGuessPool() {
+        List<String> answers = Arrays.asList("cat", "bat", "hat", "mat");
+        WordleSolver solver = new WordleSolver(answers);
+        Assertions.assertTrue(answers.contains(solver.nextGuess()));
+        solver.setGuessPool(new GuessPool(Arrays.asList("cat", "chb", "zzz"), false));
+        Assertions.assertEquals("chb", solver.nextGuess());
+        Assertions.assertEquals(Arrays.asList("cat", "chb", "zzz"), solver.getAllowedGuesses());
+    }
+
+    @Test
+    public void testHardModeOnlyScoresGuessesSatisfyingHints() {
+        List<String> answers = Arrays.asList("cat", "bat", "hat", "mat");
+        List<String> allowedGuesses = Arrays.asList("cat", "bat", "hat", "mat", "hmb", "oat", "cot");
+        List<PositionResponse> response = Arrays.asList(PositionResponse.NOT_IN_WORD, PositionResponse.IN_POSITION, PositionResponse.IN_POSITION);
+
+        WordleSolver normalSolver = new WordleSolver(answers);
+        normalSolver.setGuessPool(new GuessPool(allowedGuesses, false));
+        normalSolver.updateFromGuess("cat", response);
+        Assertions.assertEquals("hmb", normalSolver.nextGuess());
+
+        WordleSolver hardSolver = new WordleSolver(answers);
+        hardSolver.setGuessPool(new GuessPool(allowedGuesses, true));
+        hardSolver.updateFromGuess("cat", response);
+        Assertions.assertEquals(Arrays.asList("bat", "hat", "mat", "oat"), hardSolver.getAllowedGuesses());
+        Assertions.assertTrue(hardSolver.getAllowedGuesses().contains(hardSolver.nextGuess()));
+    }
+
+    @Test
+    public void testGuessPoolWithNoCandidatesMatchesAnswersOnlySolver() {
+        List<String> answers = Arrays.asList("fox", "cad", "car", "cat");
+        WordleSolver solver = new WordleSolver(answers);
+        solver.setGuessPool(new GuessPool(WordleSolver.indexDictionary(Arrays.asList("cdr", "fox")), false, 0));
+        Assertions.assertEquals("cad", solver.nextGuess());
+    }
+
+    @Test
+    public void testParallelNextGuessWithGuessPoolMatchesSequentialNextGuess() {
+        List<String> dictionary = RandomWords.words(400, 4, 7, 5);
+        GuessPool guessPool = new GuessPool(dictionary, false);
+        WordleSolver sequentialSolver = new WordleSolver(dictionary.subList(0, 100), 1);
+        WordleSolver parallelSolver = new WordleSolver(dictionary.subList(0, 100), 4);
+        sequentialSolver.setGuessPool(guessPool);
+        parallelSolver.setGuessPool(guessPool);
+        Assertions.assertEquals(sequentialSolver.nextGuess(), parallelSolver.nextGuess());
+    }
+
 }